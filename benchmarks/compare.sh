@@ -0,0 +1,28 @@
+#!/usr/bin/env bash
+# Compares two JMH CSV result files (-rf csv) and prints the score change of each benchmark.
+set -euo pipefail
+
+if [ $# -ne 2 ]; then
+  echo "Usage: $0 <baseline.csv> <candidate.csv>" >&2
+  exit 1
+fi
+
+awk -F',' '
+  function unquote(value) { gsub(/"/, "", value); return value }
+  FNR == 1 {
+    # Parameter columns follow the fixed ones and are part of the key
+    for (i = 1; i <= NF; i++) header[i] = unquote($i)
+    next
+  }
+  {
+    key = unquote($1)
+    for (i = 8; i <= NF; i++) key = key " " header[i] "=" unquote($i)
+    score = unquote($5)
+    unit = unquote($7)
+    if (FNR == NR) { baseline[key] = score; next }
+    if (key in baseline) {
+      change = baseline[key] == 0 ? 0 : (score - baseline[key]) * 100 / baseline[key]
+      printf "%-80s %14.3f %14.3f %-8s %+8.2f%%\n", key, baseline[key], score, unit, change
+    }
+  }
+' "$1" "$2"
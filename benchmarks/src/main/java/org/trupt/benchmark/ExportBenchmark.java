@@ -0,0 +1,55 @@
+package org.trupt.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.trupt.config.ExportOptions;
+import org.trupt.config.FileFormat;
+import org.trupt.utils.ExporterUtil;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ExportBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    int rows;
+
+    @Param({"narrow", "wide"})
+    String width;
+
+    private final ExporterUtil exporterUtil = new ExporterUtil();
+    private final ExporterUtil csvExporterUtil = new ExporterUtil(ExportOptions.builder().fileFormat(FileFormat.CSV).build());
+    private List<?> beans;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        beans = Fixtures.beans(width, rows);
+    }
+
+    @Benchmark
+    public ByteArrayInputStream exportInMemory() {
+        return exporterUtil.exportFile(beans, Locale.ENGLISH);
+    }
+
+    @Benchmark
+    public void exportStreaming() {
+        exporterUtil.exportFile(beans, Locale.ENGLISH, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void exportPartitioned() {
+        exporterUtil.exportFilePartitioned(beans, Locale.ENGLISH, OutputStream.nullOutputStream(), Math.max(rows / 4, 1));
+    }
+
+    @Benchmark
+    public void exportCsv() {
+        csvExporterUtil.exportFile(beans, Locale.ENGLISH, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,162 @@
+package org.trupt.benchmark;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.trupt.config.CsvOptions;
+import org.trupt.io.CsvWriter;
+import org.trupt.schema.ColumnSchema;
+import org.trupt.schema.RowSchema;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Deterministic synthetic data; generated import files are kept under target/ and reused between runs
+final class Fixtures {
+    private static final Path DIRECTORY = Path.of(System.getProperty("benchmark.fixtures", "target/benchmark-fixtures"));
+    private static final String[] NAMES = {"ACTIVE", "PENDING", "CLOSED", "Istanbul", "Madrid", "Tokyo", "London", "EUR", "USD", "JPY"};
+    private static final LocalDate EPOCH = LocalDate.of(1970, 1, 1);
+
+    private Fixtures() {
+    }
+
+    static Class<?> beanType(String width) {
+        return switch (width) {
+            case "narrow" -> NarrowBean.class;
+            case "wide" -> WideBean.class;
+            case "plain" -> PlainBean.class;
+            default -> throw new IllegalArgumentException("Unknown width: " + width);
+        };
+    }
+
+    static List<?> beans(String width, int rows) {
+        return switch (width) {
+            case "narrow" -> narrowBeans(rows);
+            case "wide" -> wideBeans(rows);
+            case "plain" -> plainBeans(rows);
+            default -> throw new IllegalArgumentException("Unknown width: " + width);
+        };
+    }
+
+    static List<NarrowBean> narrowBeans(int rows) {
+        Random random = new Random(42);
+        List<NarrowBean> beans = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            NarrowBean bean = new NarrowBean();
+            bean.id = i;
+            bean.name = NAMES[random.nextInt(NAMES.length)];
+            bean.amount = random.nextInt(1_000_000) / 100.0;
+            bean.price = BigDecimal.valueOf(random.nextInt(10_000), 2);
+            bean.birthDate = EPOCH.plusDays(random.nextInt(20_000));
+            bean.code = random.nextInt(1000);
+            beans.add(bean);
+        }
+        return beans;
+    }
+
+    static List<PlainBean> plainBeans(int rows) {
+        List<PlainBean> beans = new ArrayList<>(rows);
+        for (NarrowBean narrowBean : narrowBeans(rows)) {
+            PlainBean bean = new PlainBean();
+            bean.id = narrowBean.id;
+            bean.name = narrowBean.name;
+            bean.amount = narrowBean.amount;
+            bean.price = narrowBean.price;
+            bean.birthDate = narrowBean.birthDate;
+            bean.code = narrowBean.code;
+            beans.add(bean);
+        }
+        return beans;
+    }
+
+    static List<WideBean> wideBeans(int rows) {
+        Random random = new Random(42);
+        List<WideBean> beans = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            WideBean bean = new WideBean();
+            for (ColumnSchema column : RowSchema.of(WideBean.class).getColumns())
+                column.set(bean, randomValue(column.getType(), random));
+            beans.add(bean);
+        }
+        return beans;
+    }
+
+    private static Object randomValue(Class<?> type, Random random) {
+        if (type == int.class) return random.nextInt(100_000);
+        if (type == double.class) return random.nextInt(1_000_000) / 100.0;
+        if (type == BigDecimal.class) return BigDecimal.valueOf(random.nextInt(10_000), 2);
+        if (type == LocalDate.class) return EPOCH.plusDays(random.nextInt(20_000));
+        return NAMES[random.nextInt(NAMES.length)];
+    }
+
+    // Same content as importFile as a CSV file
+    static File csvImportFile(String width, int rows) throws IOException {
+        Path file = DIRECTORY.resolve(width + "-" + rows + ".csv");
+        if (Files.exists(file)) return file.toFile();
+
+        Files.createDirectories(DIRECTORY);
+        Path tempFile = Files.createTempFile(DIRECTORY, width, ".tmp");
+        RowSchema<?> schema = RowSchema.of(beanType(width));
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+            CsvWriter csvWriter = new CsvWriter(channel, CsvOptions.defaults(), ',');
+            for (ColumnSchema column : schema.getColumns()) csvWriter.writeField(column.getHeader().headerName(), false);
+            csvWriter.endRecord();
+            for (Object bean : beans(width, rows)) {
+                for (ColumnSchema column : schema.getColumns()) {
+                    Object value = column.get(bean);
+                    csvWriter.writeField(value == null ? null : value.toString(), value instanceof Number);
+                }
+                csvWriter.endRecord();
+            }
+            csvWriter.finish();
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        return file.toFile();
+    }
+
+    // Sheet with the raw header names the importer expects, written once per width and row count
+    static File importFile(String width, int rows) throws IOException {
+        Path file = DIRECTORY.resolve(width + "-" + rows + ".xlsx");
+        if (Files.exists(file)) return file.toFile();
+
+        Files.createDirectories(DIRECTORY);
+        Path tempFile = Files.createTempFile(DIRECTORY, width, ".tmp");
+        RowSchema<?> schema = RowSchema.of(beanType(width));
+        SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+        try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+            Sheet sheet = workbook.createSheet("Sheet1");
+            Row headerRow = sheet.createRow(0);
+            for (ColumnSchema column : schema.getColumns())
+                headerRow.createCell(column.getIndex()).setCellValue(column.getHeader().headerName());
+
+            int rowNum = 1;
+            for (Object bean : beans(width, rows)) {
+                Row row = sheet.createRow(rowNum++);
+                for (ColumnSchema column : schema.getColumns()) {
+                    Object value = column.get(bean);
+                    Cell cell = row.createCell(column.getIndex());
+                    if (value instanceof Number number) cell.setCellValue(number.doubleValue());
+                    else if (value != null) cell.setCellValue(value.toString());
+                }
+            }
+            workbook.write(outputStream);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+        return file.toFile();
+    }
+}
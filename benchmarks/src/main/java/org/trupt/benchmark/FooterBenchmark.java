@@ -0,0 +1,37 @@
+package org.trupt.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.trupt.utils.ExporterUtil;
+
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// Cost of the SUM/AVERAGE footers: "aggregates" exports the narrow beans with five of them, "none" the same columns without any
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FooterBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    int rows;
+
+    @Param({"aggregates", "none"})
+    String footer;
+
+    private final ExporterUtil exporterUtil = new ExporterUtil();
+    private List<?> beans;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        beans = Fixtures.beans(footer.equals("aggregates") ? "narrow" : "plain", rows);
+    }
+
+    @Benchmark
+    public void exportWithFooters() {
+        exporterUtil.exportFile(beans, Locale.ENGLISH, OutputStream.nullOutputStream());
+    }
+}
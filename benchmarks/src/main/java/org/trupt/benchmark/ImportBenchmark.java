@@ -0,0 +1,69 @@
+package org.trupt.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.trupt.columnar.ColumnarTable;
+import org.trupt.config.ParallelImportOptions;
+import org.trupt.utils.ImporterUtil;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ImportBenchmark {
+    @Param({"1000", "100000", "1000000"})
+    int rows;
+
+    @Param({"narrow", "wide"})
+    String width;
+
+    private final ImporterUtil importerUtil = new ImporterUtil();
+    private File file;
+    private File csvFile;
+    private Class<?> type;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = Fixtures.importFile(width, rows);
+        csvFile = Fixtures.csvImportFile(width, rows);
+        type = Fixtures.beanType(width);
+    }
+
+    // Loads the whole workbook DOM, expect the 1M row cases to need a large heap
+    @Benchmark
+    public List<?> importWorkbook() {
+        return importerUtil.importFile(file, type);
+    }
+
+    @Benchmark
+    public List<?> importStreaming() {
+        return importerUtil.importFileStreaming(file, type);
+    }
+
+    @Benchmark
+    public List<?> importParallel() {
+        return importerUtil.importFileParallel(file, type, ParallelImportOptions.defaults());
+    }
+
+    @Benchmark
+    public long importBatched(Blackhole blackhole) {
+        return importerUtil.importFile(file, type, 1000, blackhole::consume);
+    }
+
+    @Benchmark
+    public ColumnarTable importColumnar() {
+        return importerUtil.importFileColumnar(file, type);
+    }
+
+    @Benchmark
+    public List<?> importCsv() {
+        return importerUtil.importFileStreaming(csvFile, type);
+    }
+}
@@ -0,0 +1,22 @@
+package org.trupt.benchmark;
+
+import org.trupt.annotation.ExcelCellHeader;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Six columns with SUM/AVERAGE footers, the typical shape of a report export
+public class NarrowBean {
+    @ExcelCellHeader(headerName = "id", isRequired = true)
+    int id;
+    @ExcelCellHeader(headerName = "name")
+    String name;
+    @ExcelCellHeader(headerName = "amount", calculateSum = true, calculateAverage = true)
+    double amount;
+    @ExcelCellHeader(headerName = "price", calculateSum = true)
+    BigDecimal price;
+    @ExcelCellHeader(headerName = "birthDate")
+    LocalDate birthDate;
+    @ExcelCellHeader(headerName = "code", calculateAverage = true)
+    Integer code;
+}
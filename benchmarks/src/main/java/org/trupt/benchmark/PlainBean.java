@@ -0,0 +1,22 @@
+package org.trupt.benchmark;
+
+import org.trupt.annotation.ExcelCellHeader;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Same columns as NarrowBean without footers, the baseline of FooterBenchmark
+public class PlainBean {
+    @ExcelCellHeader(headerName = "id", isRequired = true)
+    int id;
+    @ExcelCellHeader(headerName = "name")
+    String name;
+    @ExcelCellHeader(headerName = "amount")
+    double amount;
+    @ExcelCellHeader(headerName = "price")
+    BigDecimal price;
+    @ExcelCellHeader(headerName = "birthDate")
+    LocalDate birthDate;
+    @ExcelCellHeader(headerName = "code")
+    Integer code;
+}
@@ -0,0 +1,102 @@
+package org.trupt.benchmark;
+
+import org.apache.poi.ss.usermodel.CellType;
+import org.openjdk.jmh.annotations.*;
+import org.trupt.handler.SourceCell;
+import org.trupt.handler.TypeHandler;
+import org.trupt.handler.TypeHandlerStorage;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+// Per-cell conversion cost of each built-in TypeHandler
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeHandlerBenchmark {
+    private final TypeHandlerStorage typeHandlerStorage = new TypeHandlerStorage();
+    private final SourceCell numericCell = new FixedCell(CellType.NUMERIC, 12345.0, null);
+    private final SourceCell stringNumberCell = new FixedCell(CellType.STRING, 0, "12345");
+    private final SourceCell stringCell = new FixedCell(CellType.STRING, 0, "PENDING");
+    private final SourceCell dateCell = new FixedCell(CellType.STRING, 0, "2024-02-29");
+    private TypeHandler intHandler;
+    private TypeHandler doubleHandler;
+    private TypeHandler stringHandler;
+    private TypeHandler bigDecimalHandler;
+    private TypeHandler localDateHandler;
+
+    @Setup
+    public void setUp() {
+        intHandler = typeHandlerStorage.getHandler(int.class);
+        doubleHandler = typeHandlerStorage.getHandler(double.class);
+        stringHandler = typeHandlerStorage.getHandler(String.class);
+        bigDecimalHandler = typeHandlerStorage.getHandler(BigDecimal.class);
+        localDateHandler = typeHandlerStorage.getHandler(LocalDate.class);
+    }
+
+    @Benchmark
+    public Object intFromNumeric() {
+        return intHandler.convert(numericCell);
+    }
+
+    @Benchmark
+    public Object intFromString() {
+        return intHandler.convert(stringNumberCell);
+    }
+
+    @Benchmark
+    public Object doubleFromNumeric() {
+        return doubleHandler.convert(numericCell);
+    }
+
+    @Benchmark
+    public Object doubleFromString() {
+        return doubleHandler.convert(stringNumberCell);
+    }
+
+    @Benchmark
+    public Object stringFromString() {
+        return stringHandler.convert(stringCell);
+    }
+
+    @Benchmark
+    public Object stringFromNumeric() {
+        return stringHandler.convert(numericCell);
+    }
+
+    @Benchmark
+    public Object bigDecimalFromNumeric() {
+        return bigDecimalHandler.convert(numericCell);
+    }
+
+    @Benchmark
+    public Object localDateFromString() {
+        return localDateHandler.convert(dateCell);
+    }
+
+    private record FixedCell(CellType cellType, double numericValue, String stringValue) implements SourceCell {
+        @Override
+        public CellType getCellType() {
+            return cellType;
+        }
+
+        @Override
+        public double getNumericCellValue() {
+            return numericValue;
+        }
+
+        @Override
+        public String getStringCellValue() {
+            return stringValue;
+        }
+
+        @Override
+        public boolean getBooleanCellValue() {
+            throw new IllegalStateException("Not a boolean cell");
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.trupt.benchmark;
+
+import org.trupt.annotation.ExcelCellHeader;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// 32 columns, for the cost of wide sheets
+public class WideBean {
+    @ExcelCellHeader(headerName = "c00", calculateSum = true)
+    int c00;
+    @ExcelCellHeader(headerName = "c01", calculateSum = true)
+    double c01;
+    @ExcelCellHeader(headerName = "c02")
+    String c02;
+    @ExcelCellHeader(headerName = "c03")
+    String c03;
+    @ExcelCellHeader(headerName = "c04", calculateSum = true)
+    int c04;
+    @ExcelCellHeader(headerName = "c05", calculateSum = true)
+    double c05;
+    @ExcelCellHeader(headerName = "c06")
+    BigDecimal c06;
+    @ExcelCellHeader(headerName = "c07")
+    LocalDate c07;
+    @ExcelCellHeader(headerName = "c08")
+    int c08;
+    @ExcelCellHeader(headerName = "c09")
+    double c09;
+    @ExcelCellHeader(headerName = "c10")
+    String c10;
+    @ExcelCellHeader(headerName = "c11")
+    String c11;
+    @ExcelCellHeader(headerName = "c12")
+    int c12;
+    @ExcelCellHeader(headerName = "c13")
+    double c13;
+    @ExcelCellHeader(headerName = "c14")
+    BigDecimal c14;
+    @ExcelCellHeader(headerName = "c15")
+    LocalDate c15;
+    @ExcelCellHeader(headerName = "c16")
+    int c16;
+    @ExcelCellHeader(headerName = "c17")
+    double c17;
+    @ExcelCellHeader(headerName = "c18")
+    String c18;
+    @ExcelCellHeader(headerName = "c19")
+    String c19;
+    @ExcelCellHeader(headerName = "c20")
+    int c20;
+    @ExcelCellHeader(headerName = "c21")
+    double c21;
+    @ExcelCellHeader(headerName = "c22")
+    BigDecimal c22;
+    @ExcelCellHeader(headerName = "c23")
+    LocalDate c23;
+    @ExcelCellHeader(headerName = "c24")
+    int c24;
+    @ExcelCellHeader(headerName = "c25")
+    double c25;
+    @ExcelCellHeader(headerName = "c26")
+    String c26;
+    @ExcelCellHeader(headerName = "c27")
+    String c27;
+    @ExcelCellHeader(headerName = "c28")
+    int c28;
+    @ExcelCellHeader(headerName = "c29")
+    double c29;
+    @ExcelCellHeader(headerName = "c30")
+    BigDecimal c30;
+    @ExcelCellHeader(headerName = "c31")
+    LocalDate c31;
+}
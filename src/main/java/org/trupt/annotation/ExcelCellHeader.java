@@ -12,4 +12,17 @@ public @interface ExcelCellHeader {
     boolean isRequired() default false;
     boolean calculateAverage() default false;
     boolean calculateSum() default false;
+    // Excel number format of the data cells, e.g. "#,##0.00", "\"$\"#,##0.00" or "yyyy-mm-dd".
+    // Date and time values of a formatted column are written as real date cells.
+    String format() default "";
+    // Column width in characters. When set, the column is never measured, whatever the width strategy.
+    int width() default 0;
+    // The column repeats a small set of values (status codes, countries, currencies). Imported strings are deduplicated,
+    // and exported values go to the workbook's shared strings table instead of being repeated inline in every cell.
+    // Only the marking above enables this. A column with more distinct values than lowCardinalityLimit keeps working:
+    // its values first seen after that are neither deduplicated nor shared. On export, a column whose values turn out
+    // to be mostly distinct stops sharing new values as well.
+    boolean lowCardinality() default false;
+    // Distinct values tracked per low-cardinality column, must be positive
+    int lowCardinalityLimit() default 4096;
 }
\ No newline at end of file
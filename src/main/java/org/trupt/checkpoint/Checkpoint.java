@@ -0,0 +1,34 @@
+package org.trupt.checkpoint;
+
+// Progress of a resumable import: the last row whose batch was committed and the file it belongs to
+public class Checkpoint {
+    private final SourceIdentity source;
+    private final int lastRowNum;
+    private final long rowCount;
+
+    public Checkpoint(SourceIdentity source, int lastRowNum, long rowCount) {
+        this.source = source;
+        this.lastRowNum = lastRowNum;
+        this.rowCount = rowCount;
+    }
+
+    // The imported file, a checkpoint with another identity does not belong to it
+    public SourceIdentity getSource() {
+        return source;
+    }
+
+    // Zero-based sheet row index of the last committed row
+    public int getLastRowNum() {
+        return lastRowNum;
+    }
+
+    // Rows committed so far, over all runs
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public String toString() {
+        return source + " up to row " + (lastRowNum + 1) + " (" + rowCount + " rows)";
+    }
+}
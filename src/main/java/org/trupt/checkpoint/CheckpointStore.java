@@ -0,0 +1,14 @@
+package org.trupt.checkpoint;
+
+import java.io.IOException;
+
+// Keeps the checkpoint of one import job between runs
+public interface CheckpointStore {
+    // Null when there is no checkpoint
+    Checkpoint load() throws IOException;
+
+    // Must replace the previous checkpoint atomically, a crash may not leave a partial one behind
+    void save(Checkpoint checkpoint) throws IOException;
+
+    void clear() throws IOException;
+}
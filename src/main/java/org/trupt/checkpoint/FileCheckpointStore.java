@@ -0,0 +1,68 @@
+package org.trupt.checkpoint;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Properties;
+
+// Keeps the checkpoint in a small properties file. A new checkpoint is written and synced to a temporary file next to it,
+// then moved over the old one, so the file always holds a complete checkpoint.
+public class FileCheckpointStore implements CheckpointStore {
+    private final Path path;
+
+    public FileCheckpointStore(Path path) {
+        if (path == null) throw new IllegalArgumentException("Checkpoint path cannot be null.");
+        this.path = path;
+    }
+
+    @Override
+    public Checkpoint load() throws IOException {
+        if (!Files.exists(path)) return null;
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        if (properties.getProperty("source") == null || properties.getProperty("sourceHash") == null)
+            throw new IOException("Invalid checkpoint file: " + path);
+        try {
+            SourceIdentity source = new SourceIdentity(properties.getProperty("source"), Long.parseLong(properties.getProperty("sourceLength")),
+                    Long.parseLong(properties.getProperty("sourceLastModified")), properties.getProperty("sourceHash"));
+            return new Checkpoint(source, Integer.parseInt(properties.getProperty("lastRowNum")), Long.parseLong(properties.getProperty("rowCount")));
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid checkpoint file: " + path, e);
+        }
+    }
+
+    @Override
+    public void save(Checkpoint checkpoint) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("source", checkpoint.getSource().getName());
+        properties.setProperty("sourceLength", Long.toString(checkpoint.getSource().getLength()));
+        properties.setProperty("sourceLastModified", Long.toString(checkpoint.getSource().getLastModified()));
+        properties.setProperty("sourceHash", checkpoint.getSource().getHeadHash());
+        properties.setProperty("lastRowNum", Integer.toString(checkpoint.getLastRowNum()));
+        properties.setProperty("rowCount", Long.toString(checkpoint.getRowCount()));
+        StringWriter content = new StringWriter();
+        properties.store(content, null);
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer bytes = StandardCharsets.UTF_8.encode(content.toString());
+            while (bytes.hasRemaining()) channel.write(bytes);
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    @Override
+    public void clear() throws IOException {
+        Files.deleteIfExists(path);
+    }
+}
@@ -0,0 +1,76 @@
+package org.trupt.checkpoint;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Objects;
+
+// Identifies the file a checkpoint belongs to. Name and size alone match a file that was rewritten in place with rows
+// of the same length, so the last modified time and a hash of the first block are compared as well.
+public class SourceIdentity {
+    private static final int HASHED_BYTES = 64 * 1024;
+
+    private final String name;
+    private final long length;
+    private final long lastModified;
+    private final String headHash;
+
+    public SourceIdentity(String name, long length, long lastModified, String headHash) {
+        this.name = name;
+        this.length = length;
+        this.lastModified = lastModified;
+        this.headHash = headHash;
+    }
+
+    public static SourceIdentity of(File file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+        try (InputStream input = Files.newInputStream(file.toPath())) {
+            digest.update(input.readNBytes(HASHED_BYTES));
+        }
+        return new SourceIdentity(file.getName(), file.length(), file.lastModified(), HexFormat.of().formatHex(digest.digest()));
+    }
+
+    // Name of the imported file
+    public String getName() {
+        return name;
+    }
+
+    public long getLength() {
+        return length;
+    }
+
+    // Milliseconds since the epoch, as File.lastModified returns it
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    // Hex SHA-256 of the first 64 KiB of the file
+    public String getHeadHash() {
+        return headHash;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof SourceIdentity identity && name.equals(identity.name) && length == identity.length
+                && lastModified == identity.lastModified && headHash.equals(identity.headHash);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, length, lastModified, headHash);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,70 @@
+package org.trupt.columnar;
+
+import org.trupt.handler.SourceCell;
+import org.trupt.schema.ColumnSchema;
+
+import java.util.Arrays;
+
+// One imported column. Values live in a growable buffer of the subclass, absent cells are marked in a null bitmap.
+public abstract class Column {
+    static final int INITIAL_CAPACITY = 1024;
+
+    private final ColumnSchema columnSchema;
+    private long[] nullBitmap = new long[INITIAL_CAPACITY >>> 6];
+    private boolean hasNulls;
+    int size;
+
+    Column(ColumnSchema columnSchema) {
+        this.columnSchema = columnSchema;
+    }
+
+    // Field name of the column
+    public String getName() {
+        return columnSchema.getName();
+    }
+
+    public Class<?> getType() {
+        return columnSchema.getType();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isNull(int row) {
+        checkIndex(row);
+        return hasNulls && (nullBitmap[row >>> 6] & (1L << row)) != 0;
+    }
+
+    // Boxed value of a row, null for an absent cell
+    public abstract Object get(int row);
+
+    void checkIndex(int row) {
+        if (row < 0 || row >= size) throw new IndexOutOfBoundsException("Row " + row + " out of bounds for " + size + " rows");
+    }
+
+    void append(SourceCell cell) {
+        if (size == capacity()) grow(capacity() + (capacity() >> 1));
+        if (cell == null) {
+            if ((size >>> 6) >= nullBitmap.length) nullBitmap = Arrays.copyOf(nullBitmap, (capacity() >>> 6) + 1);
+            nullBitmap[size >>> 6] |= 1L << size;
+            hasNulls = true;
+        } else {
+            appendValue(cell);
+        }
+        size++;
+    }
+
+    // Shrinks the buffers to the row count once the import is done
+    void trimToSize() {
+        grow(size);
+        nullBitmap = hasNulls ? Arrays.copyOf(nullBitmap, (size + 63) >>> 6) : new long[0];
+    }
+
+    abstract int capacity();
+
+    abstract void grow(int capacity);
+
+    // Writes the converted cell at index size, the buffer has room for it
+    abstract void appendValue(SourceCell cell);
+}
@@ -0,0 +1,63 @@
+package org.trupt.columnar;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Result of a columnar import, one column per @ExcelCellHeader field in declaration order
+public class ColumnarTable {
+    private final Class<?> type;
+    private final int rowCount;
+    private final List<Column> columns;
+    private final Map<String, Column> columnsByName = new LinkedHashMap<>();
+
+    ColumnarTable(Class<?> type, int rowCount, List<Column> columns) {
+        this.type = type;
+        this.rowCount = rowCount;
+        this.columns = Collections.unmodifiableList(columns);
+        for (Column column : columns) columnsByName.put(column.getName(), column);
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    // Looks a column up by field name
+    public Column getColumn(String name) {
+        Column column = columnsByName.get(name);
+        if (column == null) throw new IllegalArgumentException("No column " + name + " in " + type.getSimpleName());
+        return column;
+    }
+
+    public IntColumn getIntColumn(String name) {
+        return getColumn(name, IntColumn.class);
+    }
+
+    public DoubleColumn getDoubleColumn(String name) {
+        return getColumn(name, DoubleColumn.class);
+    }
+
+    public StringColumn getStringColumn(String name) {
+        return getColumn(name, StringColumn.class);
+    }
+
+    public LocalDateColumn getLocalDateColumn(String name) {
+        return getColumn(name, LocalDateColumn.class);
+    }
+
+    private <C extends Column> C getColumn(String name, Class<C> columnType) {
+        Column column = getColumn(name);
+        if (!columnType.isInstance(column))
+            throw new IllegalArgumentException("Column " + name + " is a " + column.getClass().getSimpleName() + ", not a " + columnType.getSimpleName());
+        return columnType.cast(column);
+    }
+}
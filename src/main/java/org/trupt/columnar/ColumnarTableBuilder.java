@@ -0,0 +1,81 @@
+package org.trupt.columnar;
+
+import org.apache.logging.log4j.Logger;
+import org.trupt.annotation.ExcelCellHeader;
+import org.trupt.config.Log4j2Config;
+import org.trupt.handler.SourceCell;
+import org.trupt.handler.TypeHandler;
+import org.trupt.handler.TypeHandlerStorage;
+import org.trupt.io.SourceRow;
+import org.trupt.metrics.OperationMetrics;
+import org.trupt.schema.ColumnSchema;
+import org.trupt.schema.HeaderBinding;
+import org.trupt.schema.RowSchema;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Appends data rows column by column, the columnar counterpart of mapping each row to a bean
+public class ColumnarTableBuilder {
+    private static final Logger logger = Log4j2Config.getLogger(ColumnarTableBuilder.class);
+    private final RowSchema<?> schema;
+    private final HeaderBinding headerBinding;
+    private final List<Column> columns = new ArrayList<>();
+    private final OperationMetrics metrics;
+    private int rowCount;
+
+    public ColumnarTableBuilder(RowSchema<?> schema, HeaderBinding headerBinding, TypeHandlerStorage typeHandlerStorage) {
+        this(schema, headerBinding, typeHandlerStorage, OperationMetrics.DISABLED);
+    }
+
+    // Conversion failures are reported to the metrics of the running import
+    public ColumnarTableBuilder(RowSchema<?> schema, HeaderBinding headerBinding, TypeHandlerStorage typeHandlerStorage, OperationMetrics metrics) {
+        this.schema = schema;
+        this.headerBinding = headerBinding;
+        this.metrics = metrics;
+        for (ColumnSchema column : schema.getColumns())
+            columns.add(createColumn(column, typeHandlerStorage.getHandler(column.getType())));
+    }
+
+    private static Column createColumn(ColumnSchema column, TypeHandler handler) {
+        Class<?> type = column.getType();
+        if (handler == null) return new ObjectColumn(column, null);
+        if (type == int.class || type == Integer.class) return new IntColumn(column, handler);
+        if (type == double.class || type == Double.class) return new DoubleColumn(column, handler);
+        if (type == String.class) return new StringColumn(column, handler);
+        if (type == LocalDate.class) return new LocalDateColumn(column, handler);
+        return new ObjectColumn(column, handler);
+    }
+
+    public void append(SourceRow row) {
+        for (ColumnSchema columnSchema : schema.getColumns()) {
+            ExcelCellHeader header = columnSchema.getHeader();
+            SourceCell cell = row.getCell(headerBinding.getColumnIndex(columnSchema));
+            try {
+                if (cell == null && header.isRequired())
+                    throw new IllegalArgumentException(header.headerName() + " column is required, cannot have NULL/BLANK values!");
+                columns.get(columnSchema.getIndex()).append(cell);
+            } catch (IllegalArgumentException e) {
+                metrics.conversionFailed(columnSchema.getName(), row.getRowNum(), e);
+                logger.error("[ERROR] Required field missing: {}", header.headerName(), e);
+                throw e;
+            } catch (Exception e) {
+                metrics.conversionFailed(columnSchema.getName(), row.getRowNum(), e);
+                logger.error("[ERROR] An unexpected error occurred while setting field value for field {}: ", columnSchema.getName(), e);
+                throw new RuntimeException("Unexpected error occurred while setting field value", e);
+            }
+        }
+        rowCount++;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    // The builder must not be used afterwards
+    public ColumnarTable build() {
+        for (Column column : columns) column.trimToSize();
+        return new ColumnarTable(schema.getType(), rowCount, columns);
+    }
+}
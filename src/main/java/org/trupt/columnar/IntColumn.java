@@ -0,0 +1,51 @@
+package org.trupt.columnar;
+
+import org.trupt.handler.IntCellConverter;
+import org.trupt.handler.SourceCell;
+import org.trupt.handler.TypeHandler;
+import org.trupt.schema.ColumnSchema;
+
+import java.util.Arrays;
+
+public class IntColumn extends Column {
+    private final TypeHandler handler;
+    private int[] values = new int[INITIAL_CAPACITY];
+
+    IntColumn(ColumnSchema columnSchema, TypeHandler handler) {
+        super(columnSchema);
+        this.handler = handler;
+    }
+
+    // 0 for an absent cell, check isNull when that matters
+    public int getInt(int row) {
+        checkIndex(row);
+        return values[row];
+    }
+
+    // Backing array holding exactly size() values, it is not copied
+    public int[] getValues() {
+        return values;
+    }
+
+    @Override
+    public Object get(int row) {
+        return isNull(row) ? null : values[row];
+    }
+
+    @Override
+    int capacity() {
+        return values.length;
+    }
+
+    @Override
+    void grow(int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    void appendValue(SourceCell cell) {
+        values[size] = handler instanceof IntCellConverter converter
+                ? converter.convertInt(cell)
+                : ((Number) handler.convert(cell)).intValue();
+    }
+}
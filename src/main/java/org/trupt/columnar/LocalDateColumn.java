@@ -0,0 +1,54 @@
+package org.trupt.columnar;
+
+import org.trupt.handler.SourceCell;
+import org.trupt.handler.TypeHandler;
+import org.trupt.schema.ColumnSchema;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+// Dates stored as days since 1970-01-01
+public class LocalDateColumn extends Column {
+    private final TypeHandler handler;
+    private int[] epochDays = new int[INITIAL_CAPACITY];
+
+    LocalDateColumn(ColumnSchema columnSchema, TypeHandler handler) {
+        super(columnSchema);
+        this.handler = handler;
+    }
+
+    // 0 for an absent cell, check isNull when that matters
+    public int getEpochDay(int row) {
+        checkIndex(row);
+        return epochDays[row];
+    }
+
+    public LocalDate getLocalDate(int row) {
+        return isNull(row) ? null : LocalDate.ofEpochDay(epochDays[row]);
+    }
+
+    // Backing array holding exactly size() values, it is not copied
+    public int[] getEpochDays() {
+        return epochDays;
+    }
+
+    @Override
+    public Object get(int row) {
+        return getLocalDate(row);
+    }
+
+    @Override
+    int capacity() {
+        return epochDays.length;
+    }
+
+    @Override
+    void grow(int capacity) {
+        epochDays = Arrays.copyOf(epochDays, capacity);
+    }
+
+    @Override
+    void appendValue(SourceCell cell) {
+        epochDays[size] = Math.toIntExact(((LocalDate) handler.convert(cell)).toEpochDay());
+    }
+}
@@ -0,0 +1,40 @@
+package org.trupt.columnar;
+
+import org.trupt.handler.SourceCell;
+import org.trupt.handler.TypeHandler;
+import org.trupt.schema.ColumnSchema;
+
+import java.util.Arrays;
+
+// Any other field type, values are kept as converted by their TypeHandler
+public class ObjectColumn extends Column {
+    private final TypeHandler handler;
+    private Object[] values = new Object[INITIAL_CAPACITY];
+
+    ObjectColumn(ColumnSchema columnSchema, TypeHandler handler) {
+        super(columnSchema);
+        this.handler = handler;
+    }
+
+    @Override
+    public Object get(int row) {
+        checkIndex(row);
+        return values[row];
+    }
+
+    @Override
+    int capacity() {
+        return values.length;
+    }
+
+    @Override
+    void grow(int capacity) {
+        values = Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    void appendValue(SourceCell cell) {
+        if (handler == null) throw new IllegalArgumentException("Unsupported field type: " + getType());
+        values[size] = handler.convert(cell);
+    }
+}
@@ -0,0 +1,71 @@
+package org.trupt.columnar;
+
+import org.trupt.handler.SourceCell;
+import org.trupt.handler.TypeHandler;
+import org.trupt.schema.ColumnSchema;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Dictionary encoded, every distinct value is kept once and rows hold its code
+public class StringColumn extends Column {
+    private final TypeHandler handler;
+    private final Map<String, Integer> codesByValue = new HashMap<>();
+    private final List<String> dictionary = new ArrayList<>();
+    private int[] codes = new int[INITIAL_CAPACITY];
+
+    StringColumn(ColumnSchema columnSchema, TypeHandler handler) {
+        super(columnSchema);
+        this.handler = handler;
+    }
+
+    // Index into getDictionary(), -1 for an absent cell
+    public int getCode(int row) {
+        checkIndex(row);
+        return isNull(row) ? -1 : codes[row];
+    }
+
+    public String getString(int row) {
+        return isNull(row) ? null : dictionary.get(codes[row]);
+    }
+
+    public List<String> getDictionary() {
+        return Collections.unmodifiableList(dictionary);
+    }
+
+    // Backing array holding exactly size() codes, it is not copied. Absent cells hold 0, check isNull.
+    public int[] getCodes() {
+        return codes;
+    }
+
+    @Override
+    public Object get(int row) {
+        return getString(row);
+    }
+
+    @Override
+    int capacity() {
+        return codes.length;
+    }
+
+    @Override
+    void grow(int capacity) {
+        codes = Arrays.copyOf(codes, capacity);
+    }
+
+    @Override
+    void appendValue(SourceCell cell) {
+        String value = (String) handler.convert(cell);
+        Integer code = codesByValue.get(value);
+        if (code == null) {
+            code = dictionary.size();
+            codesByValue.put(value, code);
+            dictionary.add(value);
+        }
+        codes[size] = code;
+    }
+}
@@ -0,0 +1,11 @@
+package org.trupt.config;
+
+// How workbook exports size their columns. Widths are set once per column after the last row; CSV and TSV have none.
+public enum ColumnWidthStrategy {
+    // Header text or the annotation width only, no value is measured
+    FIXED,
+    // Widest value of the column, estimated without converting numbers to text
+    MAX_LENGTH,
+    // Like MAX_LENGTH, but only the first ExportOptions.getWidthSampleRows() data rows are measured
+    SAMPLE
+}
@@ -0,0 +1,109 @@
+package org.trupt.config;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+public class CsvOptions {
+    public enum QuoteMode {
+        // Only fields containing the delimiter, the quote character or a line break
+        MINIMAL,
+        // Every non-empty field
+        ALL,
+        // Every non-empty field that is not a number
+        NON_NUMERIC
+    }
+
+    private final Character delimiter;
+    private final char quoteChar;
+    private final QuoteMode quoteMode;
+    private final Charset charset;
+    private final String lineSeparator;
+
+    private CsvOptions(Builder builder) {
+        this.delimiter = builder.delimiter;
+        this.quoteChar = builder.quoteChar;
+        this.quoteMode = builder.quoteMode;
+        this.charset = builder.charset;
+        this.lineSeparator = builder.lineSeparator;
+    }
+
+    public static CsvOptions defaults() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // The configured delimiter, or the default one of the format (',' for CSV, tab for TSV)
+    public char getDelimiter(FileFormat fileFormat) {
+        return delimiter != null ? delimiter : fileFormat.getDefaultDelimiter();
+    }
+
+    public char getQuoteChar() {
+        return quoteChar;
+    }
+
+    public QuoteMode getQuoteMode() {
+        return quoteMode;
+    }
+
+    public Charset getCharset() {
+        return charset;
+    }
+
+    // Written after every record; reading accepts \n, \r\n and \r alike
+    public String getLineSeparator() {
+        return lineSeparator;
+    }
+
+    public static class Builder {
+        private Character delimiter;
+        private char quoteChar = '"';
+        private QuoteMode quoteMode = QuoteMode.MINIMAL;
+        private Charset charset = StandardCharsets.UTF_8;
+        private String lineSeparator = "\r\n";
+
+        private Builder() {
+        }
+
+        public Builder delimiter(char delimiter) {
+            if (delimiter == '\r' || delimiter == '\n') throw new IllegalArgumentException("Delimiter cannot be a line break.");
+            this.delimiter = delimiter;
+            return this;
+        }
+
+        public Builder quoteChar(char quoteChar) {
+            if (quoteChar == '\r' || quoteChar == '\n') throw new IllegalArgumentException("Quote character cannot be a line break.");
+            this.quoteChar = quoteChar;
+            return this;
+        }
+
+        public Builder quoteMode(QuoteMode quoteMode) {
+            if (quoteMode == null) throw new IllegalArgumentException("Quote mode cannot be null.");
+            this.quoteMode = quoteMode;
+            return this;
+        }
+
+        public Builder charset(Charset charset) {
+            if (charset == null) throw new IllegalArgumentException("Charset cannot be null.");
+            this.charset = charset;
+            return this;
+        }
+
+        public Builder lineSeparator(String lineSeparator) {
+            if (lineSeparator == null || lineSeparator.isEmpty()) throw new IllegalArgumentException("Line separator cannot be empty.");
+            this.lineSeparator = lineSeparator;
+            return this;
+        }
+
+        public CsvOptions build() {
+            if (delimiter != null && delimiter == quoteChar) throw new IllegalArgumentException("Delimiter and quote character must differ.");
+            // Without a delimiter the format picks one when the file is read or written, the quote must differ from each
+            for (FileFormat fileFormat : FileFormat.values())
+                if (delimiter == null && fileFormat.getDefaultDelimiter() == quoteChar)
+                    throw new IllegalArgumentException("Quote character must differ from the default delimiter of " + fileFormat + ".");
+            return new CsvOptions(this);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package org.trupt.config;
+
+import org.trupt.metrics.JfrMetricsListener;
+import org.trupt.metrics.MetricsListener;
+import org.trupt.schema.HeaderPlanCache;
+
+public class ExportOptions {
+    public static final int DEFAULT_ROW_ACCESS_WINDOW_SIZE = 100;
+    public static final int DEFAULT_WIDTH_SAMPLE_ROWS = 100;
+
+    private final int rowAccessWindowSize;
+    private final boolean compressTempFiles;
+    private final FileFormat fileFormat;
+    private final CsvOptions csvOptions;
+    private final MetricsListener metricsListener;
+    private final HeaderPlanCache headerPlanCache;
+    private final ColumnWidthStrategy columnWidthStrategy;
+    private final int widthSampleRows;
+
+    private ExportOptions(Builder builder) {
+        this.rowAccessWindowSize = builder.rowAccessWindowSize;
+        this.compressTempFiles = builder.compressTempFiles;
+        this.fileFormat = builder.fileFormat;
+        this.csvOptions = builder.csvOptions;
+        this.metricsListener = builder.metricsListener;
+        this.headerPlanCache = builder.headerPlanCache;
+        this.columnWidthStrategy = builder.columnWidthStrategy;
+        this.widthSampleRows = builder.widthSampleRows;
+    }
+
+    public static ExportOptions defaults() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Number of rows kept in memory by streaming exports before older rows are flushed to disk
+    public int getRowAccessWindowSize() {
+        return rowAccessWindowSize;
+    }
+
+    // Whether the temporary sheet files of streaming exports are gzip compressed
+    public boolean isCompressTempFiles() {
+        return compressTempFiles;
+    }
+
+    public FileFormat getFileFormat() {
+        return fileFormat;
+    }
+
+    // Only used by CSV and TSV exports
+    public CsvOptions getCsvOptions() {
+        return csvOptions;
+    }
+
+    public MetricsListener getMetricsListener() {
+        return metricsListener;
+    }
+
+    public HeaderPlanCache getHeaderPlanCache() {
+        return headerPlanCache;
+    }
+
+    public ColumnWidthStrategy getColumnWidthStrategy() {
+        return columnWidthStrategy;
+    }
+
+    // Number of data rows measured by the SAMPLE width strategy
+    public int getWidthSampleRows() {
+        return widthSampleRows;
+    }
+
+    public static class Builder {
+        private int rowAccessWindowSize = DEFAULT_ROW_ACCESS_WINDOW_SIZE;
+        private boolean compressTempFiles = false;
+        private FileFormat fileFormat = FileFormat.XLSX;
+        private CsvOptions csvOptions = CsvOptions.defaults();
+        private MetricsListener metricsListener = new JfrMetricsListener();
+        private HeaderPlanCache headerPlanCache = HeaderPlanCache.shared();
+        private ColumnWidthStrategy columnWidthStrategy = ColumnWidthStrategy.MAX_LENGTH;
+        private int widthSampleRows = DEFAULT_WIDTH_SAMPLE_ROWS;
+
+        private Builder() {
+        }
+
+        public Builder rowAccessWindowSize(int rowAccessWindowSize) {
+            if (rowAccessWindowSize < 1) throw new IllegalArgumentException("Row access window size must be positive.");
+            this.rowAccessWindowSize = rowAccessWindowSize;
+            return this;
+        }
+
+        public Builder compressTempFiles(boolean compressTempFiles) {
+            this.compressTempFiles = compressTempFiles;
+            return this;
+        }
+
+        public Builder fileFormat(FileFormat fileFormat) {
+            if (fileFormat == null) throw new IllegalArgumentException("File format cannot be null.");
+            this.fileFormat = fileFormat;
+            return this;
+        }
+
+        public Builder csvOptions(CsvOptions csvOptions) {
+            if (csvOptions == null) throw new IllegalArgumentException("CSV options cannot be null.");
+            this.csvOptions = csvOptions;
+            return this;
+        }
+
+        // Defaults to JFR events, MetricsListener.NONE turns the instrumentation off
+        public Builder metricsListener(MetricsListener metricsListener) {
+            if (metricsListener == null) throw new IllegalArgumentException("Metrics listener cannot be null.");
+            this.metricsListener = metricsListener;
+            return this;
+        }
+
+        // Defaults to the cache shared by all exporters
+        public Builder headerPlanCache(HeaderPlanCache headerPlanCache) {
+            if (headerPlanCache == null) throw new IllegalArgumentException("Header plan cache cannot be null.");
+            this.headerPlanCache = headerPlanCache;
+            return this;
+        }
+
+        public Builder columnWidthStrategy(ColumnWidthStrategy columnWidthStrategy) {
+            if (columnWidthStrategy == null) throw new IllegalArgumentException("Column width strategy cannot be null.");
+            this.columnWidthStrategy = columnWidthStrategy;
+            return this;
+        }
+
+        public Builder widthSampleRows(int widthSampleRows) {
+            if (widthSampleRows < 1) throw new IllegalArgumentException("Width sample rows must be positive.");
+            this.widthSampleRows = widthSampleRows;
+            return this;
+        }
+
+        public ExportOptions build() {
+            return new ExportOptions(this);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.trupt.config;
+
+import java.io.File;
+import java.util.Locale;
+
+public enum FileFormat {
+    XLSX,
+    CSV,
+    TSV;
+
+    // Delimiter used when CsvOptions does not set one
+    public char getDefaultDelimiter() {
+        return this == TSV ? '\t' : ',';
+    }
+
+    public boolean isDelimited() {
+        return this != XLSX;
+    }
+
+    // Picks the format of an import file from its extension, anything else is read as a workbook
+    public static FileFormat of(File file) {
+        String name = file.getName().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) return CSV;
+        if (name.endsWith(".tsv") || name.endsWith(".tab")) return TSV;
+        return XLSX;
+    }
+}
@@ -0,0 +1,70 @@
+package org.trupt.config;
+
+import java.io.OutputStream;
+
+public class LenientImportOptions {
+    public static final int DEFAULT_MAX_ERRORS = 10_000;
+
+    private final OutputStream quarantineOutput;
+    private final int maxErrors;
+    private final int rowAccessWindowSize;
+
+    private LenientImportOptions(Builder builder) {
+        this.quarantineOutput = builder.quarantineOutput;
+        this.maxErrors = builder.maxErrors;
+        this.rowAccessWindowSize = builder.rowAccessWindowSize;
+    }
+
+    public static LenientImportOptions defaults() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Receives the workbook of rejected rows, null for no quarantine output. The stream is flushed but not closed.
+    public OutputStream getQuarantineOutput() {
+        return quarantineOutput;
+    }
+
+    // Errors kept in the report; further errors are only counted
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    // Rows of the quarantine workbook kept in memory before older rows are flushed to disk
+    public int getRowAccessWindowSize() {
+        return rowAccessWindowSize;
+    }
+
+    public static class Builder {
+        private OutputStream quarantineOutput;
+        private int maxErrors = DEFAULT_MAX_ERRORS;
+        private int rowAccessWindowSize = ExportOptions.DEFAULT_ROW_ACCESS_WINDOW_SIZE;
+
+        private Builder() {
+        }
+
+        public Builder quarantineOutput(OutputStream quarantineOutput) {
+            this.quarantineOutput = quarantineOutput;
+            return this;
+        }
+
+        public Builder maxErrors(int maxErrors) {
+            if (maxErrors < 0) throw new IllegalArgumentException("Maximum number of errors cannot be negative.");
+            this.maxErrors = maxErrors;
+            return this;
+        }
+
+        public Builder rowAccessWindowSize(int rowAccessWindowSize) {
+            if (rowAccessWindowSize < 1) throw new IllegalArgumentException("Row access window size must be positive.");
+            this.rowAccessWindowSize = rowAccessWindowSize;
+            return this;
+        }
+
+        public LenientImportOptions build() {
+            return new LenientImportOptions(this);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.trupt.config;
+
+import java.util.concurrent.ExecutorService;
+
+public class ParallelImportOptions {
+    public static final int DEFAULT_CHUNK_SIZE = 10_000;
+
+    private final int chunkSize;
+    private final ExecutorService executor;
+    private final boolean ordered;
+    private final int maxChunksInFlight;
+
+    private ParallelImportOptions(Builder builder) {
+        this.chunkSize = builder.chunkSize;
+        this.executor = builder.executor;
+        this.ordered = builder.ordered;
+        this.maxChunksInFlight = builder.maxChunksInFlight;
+    }
+
+    public static ParallelImportOptions defaults() {
+        return builder().build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    // Number of rows converted by one task
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    // Executor running the chunk conversions, null for a virtual thread per chunk. A supplied executor is not shut down.
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    // Whether the result keeps the row order of the sheet; unordered results are appended as chunks complete
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    // Upper bound of chunks read ahead of the conversions, so parsing cannot outrun the executor
+    public int getMaxChunksInFlight() {
+        return maxChunksInFlight;
+    }
+
+    public static class Builder {
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private ExecutorService executor;
+        private boolean ordered = true;
+        private int maxChunksInFlight = Runtime.getRuntime().availableProcessors() * 2;
+
+        private Builder() {
+        }
+
+        public Builder chunkSize(int chunkSize) {
+            if (chunkSize < 1) throw new IllegalArgumentException("Chunk size must be positive.");
+            this.chunkSize = chunkSize;
+            return this;
+        }
+
+        public Builder executor(ExecutorService executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder ordered(boolean ordered) {
+            this.ordered = ordered;
+            return this;
+        }
+
+        public Builder maxChunksInFlight(int maxChunksInFlight) {
+            if (maxChunksInFlight < 1) throw new IllegalArgumentException("Chunks in flight must be positive.");
+            this.maxChunksInFlight = maxChunksInFlight;
+            return this;
+        }
+
+        public ParallelImportOptions build() {
+            return new ParallelImportOptions(this);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package org.trupt.exception;
+
+// Failure to load, save or clear the checkpoint of a resumable import, as opposed to an error reading the file itself
+public class CheckpointException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    public CheckpointException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
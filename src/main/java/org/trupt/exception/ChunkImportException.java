@@ -0,0 +1,43 @@
+package org.trupt.exception;
+
+// Failure of one chunk of a parallel import; row numbers are zero-based sheet row indexes
+public class ChunkImportException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final int chunkIndex;
+    private final int firstRowNum;
+    private final int lastRowNum;
+    private final int failedRowNum;
+
+    public ChunkImportException(int chunkIndex, int firstRowNum, int lastRowNum, int failedRowNum, Throwable cause) {
+        super("Chunk " + chunkIndex + " (rows " + (firstRowNum + 1) + "-" + (lastRowNum + 1) + ") failed at row "
+                + (failedRowNum + 1) + ": " + rootCauseMessage(cause), cause);
+        this.chunkIndex = chunkIndex;
+        this.firstRowNum = firstRowNum;
+        this.lastRowNum = lastRowNum;
+        this.failedRowNum = failedRowNum;
+    }
+
+    private static String rootCauseMessage(Throwable cause) {
+        Throwable rootCause = cause;
+        while (rootCause.getCause() != null && rootCause.getCause() != rootCause) rootCause = rootCause.getCause();
+        return rootCause.getMessage();
+    }
+
+    public int getChunkIndex() {
+        return chunkIndex;
+    }
+
+    public int getFirstRowNum() {
+        return firstRowNum;
+    }
+
+    public int getLastRowNum() {
+        return lastRowNum;
+    }
+
+    // Row at which the chunk stopped; the rows after it in the chunk were not converted
+    public int getFailedRowNum() {
+        return failedRowNum;
+    }
+}
@@ -0,0 +1,23 @@
+package org.trupt.exception;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Thrown once every chunk of a parallel import has finished, listing all chunks that failed in sheet order.
+// Final, so adding the other failures as suppressed exceptions in the constructor cannot reach a subclass.
+public final class ParallelImportException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final ArrayList<ChunkImportException> chunkFailures;
+
+    public ParallelImportException(List<ChunkImportException> chunkFailures, int chunkCount) {
+        super(chunkFailures.size() + " of " + chunkCount + " chunks failed to import", chunkFailures.get(0));
+        this.chunkFailures = new ArrayList<>(chunkFailures);
+        for (int i = 1; i < chunkFailures.size(); i++) addSuppressed(chunkFailures.get(i));
+    }
+
+    public List<ChunkImportException> getChunkFailures() {
+        return Collections.unmodifiableList(chunkFailures);
+    }
+}
@@ -0,0 +1,16 @@
+package org.trupt.handler;
+
+import org.apache.poi.ss.usermodel.Cell;
+
+import java.lang.reflect.Field;
+
+// Base of handlers that return the converted value; handle writes it into the field
+public abstract class AbstractTypeHandler implements TypeHandler {
+    @Override
+    public abstract Object convert(SourceCell cell);
+
+    @Override
+    public void handle(Field field, Object instance, Cell cell) throws IllegalAccessException {
+        field.set(instance, convert(new PoiSourceCell(cell)));
+    }
+}
@@ -1,19 +1,16 @@
 package org.trupt.handler;
 
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.CellType;
-
-import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.util.Objects;
 
-public class BigDecimalTypeHandler implements TypeHandler {
+public class BigDecimalTypeHandler extends AbstractTypeHandler {
     @Override
-    public void handle(Field field, Object instance, Cell cell) throws IllegalAccessException {
-        if (Objects.requireNonNull(cell.getCellType()) == CellType.NUMERIC) {
-            field.set(instance, BigDecimal.valueOf(cell.getNumericCellValue()));
-        } else {
-            throw new IllegalArgumentException("Unsupported cell type");
-        }
+    public Object convert(SourceCell cell) {
+        return switch (Objects.requireNonNull(cell.getCellType())) {
+            case NUMERIC -> BigDecimal.valueOf(cell.getNumericCellValue());
+            // Text keeps every digit, e.g. amounts read from CSV files
+            case STRING -> new BigDecimal(cell.getStringCellValue().trim());
+            default -> throw new IllegalArgumentException("Unsupported cell type");
+        };
     }
 }
\ No newline at end of file
@@ -0,0 +1,6 @@
+package org.trupt.handler;
+
+// Implemented by handlers that can produce a primitive boolean without boxing
+public interface BooleanCellConverter {
+    boolean convertBoolean(SourceCell cell);
+}
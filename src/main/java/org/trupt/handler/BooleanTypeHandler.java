@@ -0,0 +1,24 @@
+package org.trupt.handler;
+
+public class BooleanTypeHandler extends AbstractTypeHandler implements BooleanCellConverter {
+    @Override
+    public Object convert(SourceCell cell) {
+        return convertBoolean(cell);
+    }
+
+    @Override
+    public boolean convertBoolean(SourceCell cell) {
+        return switch (cell.getCellType()) {
+            case BOOLEAN -> cell.getBooleanCellValue();
+            case NUMERIC -> cell.getNumericCellValue() != 0;
+            case STRING -> parseBoolean(cell.getStringCellValue());
+            default -> throw new IllegalArgumentException("Unsupported cell type");
+        };
+    }
+
+    private boolean parseBoolean(String value) {
+        if ("true".equalsIgnoreCase(value)) return true;
+        if ("false".equalsIgnoreCase(value)) return false;
+        throw new IllegalArgumentException("Invalid boolean value: " + value);
+    }
+}
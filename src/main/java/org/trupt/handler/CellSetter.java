@@ -0,0 +1,7 @@
+package org.trupt.handler;
+
+// A TypeHandler bound to one column, writes the converted cell straight into the bean field
+@FunctionalInterface
+public interface CellSetter {
+    void set(Object bean, SourceCell cell);
+}
@@ -0,0 +1,6 @@
+package org.trupt.handler;
+
+// Implemented by handlers that can produce a primitive double without boxing
+public interface DoubleCellConverter {
+    double convertDouble(SourceCell cell);
+}
@@ -1,16 +1,17 @@
 package org.trupt.handler;
 
-import org.apache.poi.ss.usermodel.Cell;
-
-import java.lang.reflect.Field;
+public class DoubleTypeHandler extends AbstractTypeHandler implements DoubleCellConverter {
+    @Override
+    public Object convert(SourceCell cell) {
+        return convertDouble(cell);
+    }
 
-public class DoubleTypeHandler implements TypeHandler {
     @Override
-    public void handle(Field field, Object instance, Cell cell) throws IllegalAccessException {
-        switch (cell.getCellType()) {
-            case NUMERIC -> field.set(instance, cell.getNumericCellValue());
-            case STRING -> field.set(instance, Double.parseDouble(cell.getStringCellValue()));
+    public double convertDouble(SourceCell cell) {
+        return switch (cell.getCellType()) {
+            case NUMERIC -> cell.getNumericCellValue();
+            case STRING -> Double.parseDouble(cell.getStringCellValue());
             default -> throw new IllegalArgumentException("Unsupported cell type");
-        }
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,30 @@
+package org.trupt.handler;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// Matches cells against the constant names, case-insensitively
+public class EnumTypeHandler<Type extends Enum<Type>> extends AbstractTypeHandler {
+    private final Class<Type> type;
+    private final Map<String, Type> constants = new HashMap<>();
+
+    public EnumTypeHandler(Class<Type> type) {
+        this.type = type;
+        for (Type constant : type.getEnumConstants())
+            constants.put(constant.name().toLowerCase(Locale.ROOT), constant);
+    }
+
+    @Override
+    public Object convert(SourceCell cell) {
+        return switch (cell.getCellType()) {
+            case STRING -> {
+                String value = cell.getStringCellValue();
+                Type constant = constants.get(value.trim().toLowerCase(Locale.ROOT));
+                if (constant == null) throw new IllegalArgumentException("No constant " + value + " in " + type.getSimpleName());
+                yield constant;
+            }
+            default -> throw new IllegalArgumentException("Unsupported cell type");
+        };
+    }
+}
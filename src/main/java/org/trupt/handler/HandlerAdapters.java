@@ -0,0 +1,75 @@
+package org.trupt.handler;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.trupt.schema.ColumnSchema;
+
+import java.lang.reflect.Field;
+
+// Bridges handlers that only implement handle(Field, Object, Cell), the contract before convert existed
+final class HandlerAdapters {
+    private static final ClassValue<Boolean> OVERRIDES_CONVERT = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return overrides(type, "convert", SourceCell.class);
+        }
+    };
+
+    private HandlerAdapters() {
+    }
+
+    static boolean overridesConvert(TypeHandler handler) {
+        return OVERRIDES_CONVERT.get(handler.getClass());
+    }
+
+    // Lets handle set the bean field itself, as the importer did before
+    static CellSetter bindHandle(TypeHandler handler, ColumnSchema column) {
+        Field field = column.getField();
+        field.setAccessible(true);
+        return (bean, cell) -> {
+            try {
+                handler.handle(field, bean, toCell(cell));
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException("Error accessing field " + field.getName(), e);
+            }
+        };
+    }
+
+    // Used where there is no bean field to write, e.g. columnar import: handle writes into a holder field of type Object
+    static Object convertWithHandle(TypeHandler handler, SourceCell cell) {
+        ConvertedValue holder = new ConvertedValue();
+        try {
+            handler.handle(ConvertedValue.FIELD, holder, toCell(cell));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Error accessing the converted value", e);
+        }
+        return holder.value;
+    }
+
+    private static Cell toCell(SourceCell cell) {
+        return cell instanceof PoiSourceCell poiSourceCell ? poiSourceCell.getCell() : new SourceCellView(cell);
+    }
+
+    private static boolean overrides(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            // Lambdas and classes written against handle alone inherit convert from TypeHandler
+            return type.getMethod(name, parameterTypes).getDeclaringClass() != TypeHandler.class;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class ConvertedValue {
+        private static final Field FIELD;
+        private Object value;
+
+        static {
+            try {
+                FIELD = ConvertedValue.class.getDeclaredField("value");
+                // Handlers live in other packages
+                FIELD.setAccessible(true);
+            } catch (NoSuchFieldException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+    }
+}
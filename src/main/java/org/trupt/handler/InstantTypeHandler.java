@@ -0,0 +1,19 @@
+package org.trupt.handler;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Objects;
+
+public class InstantTypeHandler extends AbstractTypeHandler {
+    @Override
+    public Object convert(SourceCell cell) {
+        return switch (Objects.requireNonNull(cell.getCellType())) {
+            case STRING -> Instant.parse(cell.getStringCellValue());
+            // Excel dates carry no zone, they are read as UTC
+            case NUMERIC -> DateUtil.getLocalDateTime(cell.getNumericCellValue()).toInstant(ZoneOffset.UTC);
+            default -> throw new IllegalArgumentException("Unsupported cell type");
+        };
+    }
+}
@@ -0,0 +1,6 @@
+package org.trupt.handler;
+
+// Implemented by handlers that can produce a primitive int without boxing
+public interface IntCellConverter {
+    int convertInt(SourceCell cell);
+}
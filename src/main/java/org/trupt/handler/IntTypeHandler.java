@@ -1,16 +1,17 @@
 package org.trupt.handler;
 
-import org.apache.poi.ss.usermodel.Cell;
-
-import java.lang.reflect.Field;
+public class IntTypeHandler extends AbstractTypeHandler implements IntCellConverter {
+    @Override
+    public Object convert(SourceCell cell) {
+        return convertInt(cell);
+    }
 
-public class IntTypeHandler implements TypeHandler {
     @Override
-    public void handle(Field field, Object instance, Cell cell) throws IllegalAccessException {
-        switch (cell.getCellType()) {
-            case NUMERIC -> field.set(instance, (int) cell.getNumericCellValue());
-            case STRING -> field.set(instance, Integer.parseInt(cell.getStringCellValue()));
+    public int convertInt(SourceCell cell) {
+        return switch (cell.getCellType()) {
+            case NUMERIC -> (int) cell.getNumericCellValue();
+            case STRING -> Integer.parseInt(cell.getStringCellValue());
             default -> throw new IllegalArgumentException("Unsupported cell type");
-        }
+        };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package org.trupt.handler;
+
+import org.apache.poi.ss.usermodel.DateUtil;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+public class LocalDateTimeTypeHandler extends AbstractTypeHandler {
+    @Override
+    public Object convert(SourceCell cell) {
+        return switch (Objects.requireNonNull(cell.getCellType())) {
+            case STRING -> LocalDateTime.parse(cell.getStringCellValue());
+            case NUMERIC -> DateUtil.getLocalDateTime(cell.getNumericCellValue());
+            default -> throw new IllegalArgumentException("Unsupported cell type");
+        };
+    }
+}
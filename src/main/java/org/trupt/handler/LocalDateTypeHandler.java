@@ -1,19 +1,18 @@
 package org.trupt.handler;
 
-import org.apache.poi.ss.usermodel.Cell;
-import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.DateUtil;
 
-import java.lang.reflect.Field;
 import java.time.LocalDate;
 import java.util.Objects;
 
-public class LocalDateTypeHandler implements TypeHandler {
+public class LocalDateTypeHandler extends AbstractTypeHandler {
     @Override
-    public void handle(Field field, Object instance, Cell cell) throws IllegalAccessException {
-        if (Objects.requireNonNull(cell.getCellType()) == CellType.STRING) {
-            field.set(instance, LocalDate.parse(cell.getStringCellValue()));
-        } else {
-            throw new IllegalArgumentException("Unsupported cell type");
-        }
+    public Object convert(SourceCell cell) {
+        return switch (Objects.requireNonNull(cell.getCellType())) {
+            case STRING -> LocalDate.parse(cell.getStringCellValue());
+            // Date cells, e.g. from exports of a column with a date format
+            case NUMERIC -> DateUtil.getLocalDateTime(cell.getNumericCellValue()).toLocalDate();
+            default -> throw new IllegalArgumentException("Unsupported cell type");
+        };
     }
 }
\ No newline at end of file
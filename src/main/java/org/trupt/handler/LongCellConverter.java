@@ -0,0 +1,6 @@
+package org.trupt.handler;
+
+// Implemented by handlers that can produce a primitive long without boxing
+public interface LongCellConverter {
+    long convertLong(SourceCell cell);
+}
@@ -0,0 +1,17 @@
+package org.trupt.handler;
+
+public class LongTypeHandler extends AbstractTypeHandler implements LongCellConverter {
+    @Override
+    public Object convert(SourceCell cell) {
+        return convertLong(cell);
+    }
+
+    @Override
+    public long convertLong(SourceCell cell) {
+        return switch (cell.getCellType()) {
+            case NUMERIC -> (long) cell.getNumericCellValue();
+            case STRING -> Long.parseLong(cell.getStringCellValue());
+            default -> throw new IllegalArgumentException("Unsupported cell type");
+        };
+    }
+}
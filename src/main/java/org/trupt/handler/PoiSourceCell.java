@@ -0,0 +1,45 @@
+package org.trupt.handler;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+
+// Adapts a POI cell; the wrapper is reusable so that reading a sheet does not allocate one per cell
+public class PoiSourceCell implements SourceCell {
+    private Cell cell;
+
+    public PoiSourceCell() {
+    }
+
+    public PoiSourceCell(Cell cell) {
+        this.cell = cell;
+    }
+
+    public PoiSourceCell wrap(Cell cell) {
+        this.cell = cell;
+        return this;
+    }
+
+    Cell getCell() {
+        return cell;
+    }
+
+    @Override
+    public CellType getCellType() {
+        return cell.getCellType();
+    }
+
+    @Override
+    public double getNumericCellValue() {
+        return cell.getNumericCellValue();
+    }
+
+    @Override
+    public String getStringCellValue() {
+        return cell.getStringCellValue();
+    }
+
+    @Override
+    public boolean getBooleanCellValue() {
+        return cell.getBooleanCellValue();
+    }
+}
@@ -0,0 +1,14 @@
+package org.trupt.handler;
+
+import org.apache.poi.ss.usermodel.CellType;
+
+// Read-only view of a single cell, independent of whether it comes from the workbook DOM or a streaming reader
+public interface SourceCell {
+    CellType getCellType();
+
+    double getNumericCellValue();
+
+    String getStringCellValue();
+
+    boolean getBooleanCellValue();
+}
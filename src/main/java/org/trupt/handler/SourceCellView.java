@@ -0,0 +1,215 @@
+package org.trupt.handler;
+
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellAddress;
+import org.apache.poi.ss.util.CellRangeAddress;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+
+import java.time.LocalDateTime;
+import java.util.Calendar;
+import java.util.Date;
+
+// Read-only POI cell over a SourceCell, handed to handlers that only implement handle when the cell does not come
+// from a workbook DOM. Dates use the 1900 date system, as the streaming readers do. The cell has no position.
+class SourceCellView implements Cell {
+    private final SourceCell cell;
+
+    SourceCellView(SourceCell cell) {
+        this.cell = cell;
+    }
+
+    @Override
+    public CellType getCellType() {
+        return cell.getCellType();
+    }
+
+    @Override
+    public double getNumericCellValue() {
+        return cell.getNumericCellValue();
+    }
+
+    @Override
+    public String getStringCellValue() {
+        return cell.getStringCellValue();
+    }
+
+    @Override
+    public boolean getBooleanCellValue() {
+        return cell.getBooleanCellValue();
+    }
+
+    @Override
+    public Date getDateCellValue() {
+        return DateUtil.getJavaDate(cell.getNumericCellValue());
+    }
+
+    @Override
+    public LocalDateTime getLocalDateTimeCellValue() {
+        return DateUtil.getLocalDateTime(cell.getNumericCellValue());
+    }
+
+    @Override
+    public RichTextString getRichStringCellValue() {
+        return new XSSFRichTextString(cell.getStringCellValue());
+    }
+
+    @Override
+    public CellType getCachedFormulaResultType() {
+        throw unsupported();
+    }
+
+    @Override
+    public String getCellFormula() {
+        throw unsupported();
+    }
+
+    @Override
+    public byte getErrorCellValue() {
+        throw unsupported();
+    }
+
+    @Override
+    public CellStyle getCellStyle() {
+        return null;
+    }
+
+    @Override
+    public Comment getCellComment() {
+        return null;
+    }
+
+    @Override
+    public Hyperlink getHyperlink() {
+        return null;
+    }
+
+    @Override
+    public CellRangeAddress getArrayFormulaRange() {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isPartOfArrayFormulaGroup() {
+        return false;
+    }
+
+    @Override
+    public int getColumnIndex() {
+        throw unsupported();
+    }
+
+    @Override
+    public int getRowIndex() {
+        throw unsupported();
+    }
+
+    @Override
+    public Sheet getSheet() {
+        throw unsupported();
+    }
+
+    @Override
+    public Row getRow() {
+        throw unsupported();
+    }
+
+    @Override
+    public CellAddress getAddress() {
+        throw unsupported();
+    }
+
+    @Override
+    @Deprecated
+    public void setCellType(CellType cellType) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setBlank() {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellValue(double value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellValue(Date value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellValue(LocalDateTime value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellValue(Calendar value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellValue(RichTextString value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellValue(String value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellValue(boolean value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellFormula(String formula) {
+        throw unsupported();
+    }
+
+    @Override
+    public void removeFormula() {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellErrorValue(byte value) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellStyle(CellStyle style) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setAsActiveCell() {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCellComment(Comment comment) {
+        throw unsupported();
+    }
+
+    @Override
+    public void removeCellComment() {
+        throw unsupported();
+    }
+
+    @Override
+    public void setHyperlink(Hyperlink link) {
+        throw unsupported();
+    }
+
+    @Override
+    public void removeHyperlink() {
+        throw unsupported();
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("Not available on an imported cell value");
+    }
+}
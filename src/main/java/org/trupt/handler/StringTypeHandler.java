@@ -1,16 +1,18 @@
 package org.trupt.handler;
 
-import org.apache.poi.ss.usermodel.Cell;
-
-import java.lang.reflect.Field;
-
-public class StringTypeHandler implements TypeHandler {
+public class StringTypeHandler extends AbstractTypeHandler {
     @Override
-    public void handle(Field field, Object instance, Cell cell) throws IllegalAccessException {
-        switch (cell.getCellType()) {
-            case NUMERIC -> field.set(instance, String.valueOf(cell.getNumericCellValue()));
-            case STRING -> field.set(instance, cell.getStringCellValue());
+    public Object convert(SourceCell cell) {
+        return switch (cell.getCellType()) {
+            case NUMERIC -> formatNumber(cell.getNumericCellValue());
+            case STRING -> cell.getStringCellValue();
             default -> throw new IllegalArgumentException("Unsupported cell type");
-        }
+        };
+    }
+
+    // Whole numbers lose the trailing ".0": a code typed as 42 reads as "42", and CSV values read back into int and long fields
+    public static String formatNumber(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) return Long.toString((long) value);
+        return Double.toString(value);
     }
-}
\ No newline at end of file
+}
@@ -1,9 +1,32 @@
 package org.trupt.handler;
 
 import org.apache.poi.ss.usermodel.Cell;
+import org.trupt.schema.ColumnSchema;
 
 import java.lang.reflect.Field;
 
+// Implementors write handle. Handlers that can return the converted value on their own also override convert
+// (see AbstractTypeHandler), which lets the importer write fields through the row schema and skip reflection.
 public interface TypeHandler {
     void handle(Field field, Object instance, Cell cell) throws IllegalAccessException;
-}
\ No newline at end of file
+
+    default Object convert(SourceCell cell) {
+        return HandlerAdapters.convertWithHandle(this, cell);
+    }
+
+    // Called once per column and import. Handlers implementing a primitive converter write primitive fields
+    // without boxing, everything else goes through convert.
+    default CellSetter bind(ColumnSchema column) {
+        if (!HandlerAdapters.overridesConvert(this)) return HandlerAdapters.bindHandle(this, column);
+        Class<?> type = column.getType();
+        if (type == int.class && this instanceof IntCellConverter converter)
+            return (bean, cell) -> column.setInt(bean, converter.convertInt(cell));
+        if (type == long.class && this instanceof LongCellConverter converter)
+            return (bean, cell) -> column.setLong(bean, converter.convertLong(cell));
+        if (type == double.class && this instanceof DoubleCellConverter converter)
+            return (bean, cell) -> column.setDouble(bean, converter.convertDouble(cell));
+        if (type == boolean.class && this instanceof BooleanCellConverter converter)
+            return (bean, cell) -> column.setBoolean(bean, converter.convertBoolean(cell));
+        return (bean, cell) -> column.set(bean, convert(cell));
+    }
+}
@@ -1,24 +1,51 @@
 package org.trupt.handler;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
-import java.util.HashMap;
+import java.time.LocalDateTime;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class TypeHandlerStorage {
-    private final Map<Class<?>, TypeHandler> handlers = new HashMap<>();
+    private static final IntTypeHandler INT_HANDLER = new IntTypeHandler();
+    private static final LongTypeHandler LONG_HANDLER = new LongTypeHandler();
+    private static final DoubleTypeHandler DOUBLE_HANDLER = new DoubleTypeHandler();
+    private static final BooleanTypeHandler BOOLEAN_HANDLER = new BooleanTypeHandler();
+
+    private final Map<Class<?>, TypeHandler> handlers = new ConcurrentHashMap<>();
 
     public TypeHandlerStorage() {
-        handlers.put(int.class, new IntTypeHandler());
-        handlers.put(Integer.class, new IntTypeHandler());
-        handlers.put(double.class, new DoubleTypeHandler());
-        handlers.put(Double.class, new DoubleTypeHandler());
+        handlers.put(int.class, INT_HANDLER);
+        handlers.put(Integer.class, INT_HANDLER);
+        handlers.put(long.class, LONG_HANDLER);
+        handlers.put(Long.class, LONG_HANDLER);
+        handlers.put(double.class, DOUBLE_HANDLER);
+        handlers.put(Double.class, DOUBLE_HANDLER);
+        handlers.put(boolean.class, BOOLEAN_HANDLER);
+        handlers.put(Boolean.class, BOOLEAN_HANDLER);
         handlers.put(String.class, new StringTypeHandler());
         handlers.put(BigDecimal.class, new BigDecimalTypeHandler());
         handlers.put(LocalDate.class, new LocalDateTypeHandler());
+        handlers.put(LocalDateTime.class, new LocalDateTimeTypeHandler());
+        handlers.put(Instant.class, new InstantTypeHandler());
+    }
+
+    // Adds or replaces the handler of a field type
+    public TypeHandlerStorage register(Class<?> type, TypeHandler handler) {
+        if (type == null || handler == null) throw new IllegalArgumentException("Type and handler cannot be null.");
+        handlers.put(type, handler);
+        return this;
     }
 
     public TypeHandler getHandler(Class<?> type) {
-        return handlers.get(type);
+        TypeHandler handler = handlers.get(type);
+        if (handler == null && type != null && type.isEnum()) return handlers.computeIfAbsent(type, TypeHandlerStorage::enumHandler);
+        return handler;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static TypeHandler enumHandler(Class<?> type) {
+        return new EnumTypeHandler(type);
     }
-}
\ No newline at end of file
+}
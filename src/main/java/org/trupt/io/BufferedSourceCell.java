@@ -0,0 +1,71 @@
+package org.trupt.io;
+
+import org.apache.poi.ss.usermodel.CellType;
+import org.trupt.handler.SourceCell;
+
+// Mutable cell filled by streaming readers; _NONE marks a column without a cell in the current row
+class BufferedSourceCell implements SourceCell {
+    private CellType cellType = CellType._NONE;
+    private double numericValue;
+    private String stringValue;
+    private boolean booleanValue;
+
+    void clear() {
+        cellType = CellType._NONE;
+        stringValue = null;
+    }
+
+    void setBlank() {
+        cellType = CellType.BLANK;
+        stringValue = null;
+    }
+
+    void setNumeric(double value) {
+        cellType = CellType.NUMERIC;
+        numericValue = value;
+        stringValue = null;
+    }
+
+    void setString(String value) {
+        cellType = CellType.STRING;
+        stringValue = value;
+    }
+
+    void setBoolean(boolean value) {
+        cellType = CellType.BOOLEAN;
+        booleanValue = value;
+        stringValue = null;
+    }
+
+    void setType(CellType type) {
+        cellType = type;
+        stringValue = null;
+    }
+
+    boolean isPresent() {
+        return cellType != CellType._NONE;
+    }
+
+    @Override
+    public CellType getCellType() {
+        return cellType;
+    }
+
+    @Override
+    public double getNumericCellValue() {
+        if (cellType != CellType.NUMERIC) throw new IllegalStateException("Cannot get a NUMERIC value from a " + cellType + " cell");
+        return numericValue;
+    }
+
+    @Override
+    public String getStringCellValue() {
+        if (cellType != CellType.STRING) throw new IllegalStateException("Cannot get a STRING value from a " + cellType + " cell");
+        return stringValue;
+    }
+
+    @Override
+    public boolean getBooleanCellValue() {
+        if (cellType != CellType.BOOLEAN) throw new IllegalStateException("Cannot get a BOOLEAN value from a " + cellType + " cell");
+        return booleanValue;
+    }
+}
@@ -0,0 +1,54 @@
+package org.trupt.io;
+
+import org.apache.poi.ss.usermodel.CellType;
+import org.trupt.handler.SourceCell;
+
+import java.util.Arrays;
+
+// Row buffer reused for every row of a streaming read, so memory stays at one row
+class BufferedSourceRow implements SourceRow {
+    private BufferedSourceCell[] cells = new BufferedSourceCell[0];
+    private int cellCount;
+    private int rowNum;
+
+    void reset(int rowNum) {
+        for (int i = 0; i < cellCount; i++) cells[i].clear();
+        this.cellCount = 0;
+        this.rowNum = rowNum;
+    }
+
+    BufferedSourceCell cell(int columnIndex) {
+        if (columnIndex >= cells.length) {
+            int oldLength = cells.length;
+            cells = Arrays.copyOf(cells, Math.max(columnIndex + 1, oldLength * 2));
+            for (int i = oldLength; i < cells.length; i++) cells[i] = new BufferedSourceCell();
+        }
+        if (columnIndex >= cellCount) cellCount = columnIndex + 1;
+        return cells[columnIndex];
+    }
+
+    @Override
+    public int getRowNum() {
+        return rowNum;
+    }
+
+    @Override
+    public int getCellCount() {
+        return cellCount;
+    }
+
+    @Override
+    public SourceCell getCell(int columnIndex) {
+        if (columnIndex >= cellCount || !cells[columnIndex].isPresent()) return null;
+        return cells[columnIndex];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (int i = 0; i < cellCount; i++) {
+            CellType cellType = cells[i].getCellType();
+            if (cellType != CellType._NONE && cellType != CellType.BLANK) return false;
+        }
+        return true;
+    }
+}
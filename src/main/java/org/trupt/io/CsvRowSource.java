@@ -0,0 +1,103 @@
+package org.trupt.io;
+
+import org.trupt.config.CsvOptions;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// Streaming parser for delimited files (RFC 4180 quoting). Reads through a fixed-size buffer, so memory only
+// depends on the longest record. Every present field is reported as a STRING cell and converted by the TypeHandlers.
+public class CsvRowSource implements RowSource {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final char delimiter;
+    private final char quoteChar;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final CsvSourceRow row = new CsvSourceRow();
+    private int position;
+    private int limit;
+    private int nextRowNum;
+    private boolean finished;
+
+    public CsvRowSource(Path file, CsvOptions options, char delimiter) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.reader = Channels.newReader(channel, options.getCharset().newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT), -1);
+        this.delimiter = delimiter;
+        this.quoteChar = options.getQuoteChar();
+    }
+
+    @Override
+    public SourceRow nextRow() throws IOException {
+        if (finished) return null;
+        int ch = read();
+        if (ch == '\uFEFF' && nextRowNum == 0) ch = read(); // Byte order mark written by Excel
+        if (ch == -1) {
+            finished = true;
+            return null;
+        }
+
+        row.reset(nextRowNum);
+        while (true) {
+            row.startField();
+            if (ch == quoteChar) {
+                row.markQuoted();
+                while (true) {
+                    ch = read();
+                    if (ch == -1) throw new IOException("Unterminated quoted field in row " + (nextRowNum + 1));
+                    if (ch == quoteChar) {
+                        ch = read();
+                        if (ch != quoteChar) break; // Closing quote, a doubled one is an escaped quote
+                    }
+                    row.append((char) ch);
+                }
+            }
+            // Unquoted text, or text following a closing quote, which is kept as is
+            while (ch != delimiter && ch != '\n' && ch != '\r' && ch != -1) {
+                row.append((char) ch);
+                ch = read();
+            }
+            row.endField();
+
+            if (ch == delimiter) {
+                ch = read();
+                continue;
+            }
+            if (ch == '\r' && peek() == '\n') read();
+            if (ch == -1) finished = true;
+            break;
+        }
+        nextRowNum++;
+        return row;
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) return -1;
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) return -1;
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int count = reader.read(buffer, 0, buffer.length);
+        if (count <= 0) return false;
+        position = 0;
+        limit = count;
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,105 @@
+package org.trupt.io;
+
+import org.apache.poi.ss.usermodel.CellType;
+import org.trupt.handler.SourceCell;
+
+import java.util.Arrays;
+
+// One parsed record, reused by CsvRowSource. Field text stays in a shared char buffer and only becomes a String
+// when a cell is read, so columns that are not bound to a field cost no allocation.
+class CsvSourceRow implements SourceRow {
+    private char[] data = new char[256];
+    private int length;
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private boolean[] quoted = new boolean[16];
+    private CsvSourceCell[] cells = new CsvSourceCell[16];
+    private int fieldCount;
+    private int rowNum;
+
+    void reset(int rowNum) {
+        this.rowNum = rowNum;
+        this.length = 0;
+        this.fieldCount = 0;
+    }
+
+    void startField() {
+        if (fieldCount == starts.length) {
+            int capacity = fieldCount * 2;
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            quoted = Arrays.copyOf(quoted, capacity);
+            cells = Arrays.copyOf(cells, capacity);
+        }
+        starts[fieldCount] = length;
+        quoted[fieldCount] = false;
+    }
+
+    void markQuoted() {
+        quoted[fieldCount] = true;
+    }
+
+    void append(char ch) {
+        if (length == data.length) data = Arrays.copyOf(data, length * 2);
+        data[length++] = ch;
+    }
+
+    void endField() {
+        ends[fieldCount++] = length;
+    }
+
+    @Override
+    public int getRowNum() {
+        return rowNum;
+    }
+
+    @Override
+    public int getCellCount() {
+        return fieldCount;
+    }
+
+    // An unquoted empty field is an absent cell, a quoted one ("") an empty string
+    @Override
+    public SourceCell getCell(int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= fieldCount) return null;
+        if (starts[columnIndex] == ends[columnIndex] && !quoted[columnIndex]) return null;
+        CsvSourceCell cell = cells[columnIndex];
+        if (cell == null) cell = cells[columnIndex] = new CsvSourceCell(columnIndex);
+        return cell;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (int i = 0; i < fieldCount; i++)
+            if (starts[i] != ends[i] || quoted[i]) return false;
+        return true;
+    }
+
+    private class CsvSourceCell implements SourceCell {
+        private final int columnIndex;
+
+        private CsvSourceCell(int columnIndex) {
+            this.columnIndex = columnIndex;
+        }
+
+        @Override
+        public CellType getCellType() {
+            return CellType.STRING;
+        }
+
+        @Override
+        public double getNumericCellValue() {
+            throw new IllegalStateException("Cannot get a NUMERIC value from a STRING cell");
+        }
+
+        @Override
+        public String getStringCellValue() {
+            return new String(data, starts[columnIndex], ends[columnIndex] - starts[columnIndex]);
+        }
+
+        @Override
+        public boolean getBooleanCellValue() {
+            throw new IllegalStateException("Cannot get a BOOLEAN value from a STRING cell");
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package org.trupt.io;
+
+import org.trupt.config.CsvOptions;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+// Buffered record writer for delimited files. Characters are encoded in blocks straight into the channel,
+// so memory stays constant whatever the number of rows. The caller owns the channel.
+public class CsvWriter implements Flushable {
+    private static final int BUFFER_SIZE = 32 * 1024;
+
+    private final WritableByteChannel channel;
+    private final CharsetEncoder encoder;
+    private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+    private final ByteBuffer bytes;
+    private final char delimiter;
+    private final char quoteChar;
+    private final CsvOptions.QuoteMode quoteMode;
+    private final String lineSeparator;
+    private boolean firstField = true;
+    private long bytesWritten;
+
+    public CsvWriter(WritableByteChannel channel, CsvOptions options, char delimiter) {
+        this.channel = channel;
+        this.encoder = options.getCharset().newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.bytes = ByteBuffer.allocate((int) (BUFFER_SIZE * encoder.maxBytesPerChar()));
+        this.delimiter = delimiter;
+        this.quoteChar = options.getQuoteChar();
+        this.quoteMode = options.getQuoteMode();
+        this.lineSeparator = options.getLineSeparator();
+    }
+
+    // A null value is written as an empty field, which reads back as an absent cell
+    public void writeField(String value, boolean numeric) throws IOException {
+        if (!firstField) append(delimiter);
+        firstField = false;
+        if (value == null) return;
+
+        if (needsQuotes(value, numeric)) {
+            append(quoteChar);
+            for (int i = 0; i < value.length(); i++) {
+                char ch = value.charAt(i);
+                if (ch == quoteChar) append(quoteChar);
+                append(ch);
+            }
+            append(quoteChar);
+        } else {
+            append(value);
+        }
+    }
+
+    public void endRecord() throws IOException {
+        append(lineSeparator);
+        firstField = true;
+    }
+
+    private boolean needsQuotes(String value, boolean numeric) {
+        return switch (quoteMode) {
+            case ALL -> true;
+            case NON_NUMERIC -> !numeric || containsSpecialChar(value);
+            case MINIMAL -> value.isEmpty() || containsSpecialChar(value);
+        };
+    }
+
+    private boolean containsSpecialChar(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char ch = value.charAt(i);
+            if (ch == delimiter || ch == quoteChar || ch == '\n' || ch == '\r') return true;
+        }
+        return false;
+    }
+
+    private void append(char ch) throws IOException {
+        if (!chars.hasRemaining()) encode(false);
+        chars.put(ch);
+    }
+
+    private void append(String value) throws IOException {
+        int offset = 0;
+        while (offset < value.length()) {
+            if (!chars.hasRemaining()) encode(false);
+            int count = Math.min(chars.remaining(), value.length() - offset);
+            chars.put(value, offset, offset + count);
+            offset += count;
+        }
+    }
+
+    // Writes what is buffered; a trailing high surrogate stays buffered until its pair arrives
+    @Override
+    public void flush() throws IOException {
+        encode(false);
+    }
+
+    // Flushes everything, the writer must not be used afterwards
+    public void finish() throws IOException {
+        encode(true);
+        encoder.flush(bytes);
+        writeBytes();
+    }
+
+    private void encode(boolean endOfInput) throws IOException {
+        chars.flip();
+        while (true) {
+            CoderResult result = encoder.encode(chars, bytes, endOfInput);
+            writeBytes();
+            if (!result.isOverflow()) break;
+        }
+        chars.compact();
+    }
+
+    // Encoded bytes handed to the channel so far
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    private void writeBytes() throws IOException {
+        bytes.flip();
+        bytesWritten += bytes.remaining();
+        while (bytes.hasRemaining()) channel.write(bytes);
+        bytes.clear();
+    }
+}
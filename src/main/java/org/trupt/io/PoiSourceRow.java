@@ -0,0 +1,41 @@
+package org.trupt.io;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.trupt.handler.PoiSourceCell;
+import org.trupt.handler.SourceCell;
+
+// Adapts a row of the workbook DOM, reusing a single cell wrapper
+public class PoiSourceRow implements SourceRow {
+    private final PoiSourceCell sourceCell = new PoiSourceCell();
+    private Row row;
+
+    public PoiSourceRow wrap(Row row) {
+        this.row = row;
+        return this;
+    }
+
+    @Override
+    public int getRowNum() {
+        return row.getRowNum();
+    }
+
+    @Override
+    public int getCellCount() {
+        return Math.max(row.getLastCellNum(), 0);
+    }
+
+    @Override
+    public SourceCell getCell(int columnIndex) {
+        Cell cell = row.getCell(columnIndex);
+        return cell == null ? null : sourceCell.wrap(cell);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Cell cell : row)
+            if (cell.getCellType() != CellType.BLANK) return false;
+        return true;
+    }
+}
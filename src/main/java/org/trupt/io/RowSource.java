@@ -0,0 +1,10 @@
+package org.trupt.io;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// Pull-based row reader. The returned row may be reused by the next call, so it must be consumed before reading on.
+public interface RowSource extends Closeable {
+    // Returns null once the sheet has no more rows
+    SourceRow nextRow() throws IOException;
+}
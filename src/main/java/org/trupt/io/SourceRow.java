@@ -0,0 +1,16 @@
+package org.trupt.io;
+
+import org.trupt.handler.SourceCell;
+
+public interface SourceRow {
+    // Zero-based row index in the sheet
+    int getRowNum();
+
+    // One past the highest column index holding a cell
+    int getCellCount();
+
+    // Returns null when the row has no cell at the given column
+    SourceCell getCell(int columnIndex);
+
+    boolean isEmpty();
+}
@@ -0,0 +1,90 @@
+package org.trupt.io;
+
+import org.apache.poi.ss.usermodel.CellType;
+import org.trupt.handler.SourceCell;
+
+// Compact copy of a source row, detached from the reader's reusable buffer so it can be mapped on another thread.
+// The returned cells are views reused per snapshot, so a snapshot must only be read by one thread at a time.
+public class SourceRowSnapshot implements SourceRow {
+    private final int rowNum;
+    private final CellType[] cellTypes;
+    private final double[] numericValues;
+    private final Object[] values; // String or Boolean values
+    private final SnapshotCell cell = new SnapshotCell();
+
+    private SourceRowSnapshot(int rowNum, int cellCount) {
+        this.rowNum = rowNum;
+        this.cellTypes = new CellType[cellCount];
+        this.numericValues = new double[cellCount];
+        this.values = new Object[cellCount];
+    }
+
+    public static SourceRowSnapshot copyOf(SourceRow row) {
+        SourceRowSnapshot snapshot = new SourceRowSnapshot(row.getRowNum(), row.getCellCount());
+        for (int i = 0; i < snapshot.cellTypes.length; i++) {
+            SourceCell sourceCell = row.getCell(i);
+            if (sourceCell == null) continue;
+            CellType cellType = sourceCell.getCellType();
+            snapshot.cellTypes[i] = cellType;
+            switch (cellType) {
+                case NUMERIC -> snapshot.numericValues[i] = sourceCell.getNumericCellValue();
+                case STRING -> snapshot.values[i] = sourceCell.getStringCellValue();
+                case BOOLEAN -> snapshot.values[i] = sourceCell.getBooleanCellValue();
+                default -> {
+                }
+            }
+        }
+        return snapshot;
+    }
+
+    @Override
+    public int getRowNum() {
+        return rowNum;
+    }
+
+    @Override
+    public int getCellCount() {
+        return cellTypes.length;
+    }
+
+    @Override
+    public SourceCell getCell(int columnIndex) {
+        if (columnIndex >= cellTypes.length || cellTypes[columnIndex] == null) return null;
+        cell.columnIndex = columnIndex;
+        return cell;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (CellType cellType : cellTypes)
+            if (cellType != null && cellType != CellType.BLANK) return false;
+        return true;
+    }
+
+    private class SnapshotCell implements SourceCell {
+        private int columnIndex;
+
+        @Override
+        public CellType getCellType() {
+            return cellTypes[columnIndex];
+        }
+
+        @Override
+        public double getNumericCellValue() {
+            if (cellTypes[columnIndex] != CellType.NUMERIC) throw new IllegalStateException("Cannot get a NUMERIC value from a " + cellTypes[columnIndex] + " cell");
+            return numericValues[columnIndex];
+        }
+
+        @Override
+        public String getStringCellValue() {
+            if (cellTypes[columnIndex] != CellType.STRING) throw new IllegalStateException("Cannot get a STRING value from a " + cellTypes[columnIndex] + " cell");
+            return (String) values[columnIndex];
+        }
+
+        @Override
+        public boolean getBooleanCellValue() {
+            if (cellTypes[columnIndex] != CellType.BOOLEAN) throw new IllegalStateException("Cannot get a BOOLEAN value from a " + cellTypes[columnIndex] + " cell");
+            return (Boolean) values[columnIndex];
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package org.trupt.io;
+
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.xml.sax.SAXException;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+
+// Reads the first sheet of an .xlsx file straight from its XML part, without building the workbook DOM.
+// Only the shared strings table and the current row are held in memory.
+public class XlsxEventRowSource implements RowSource {
+    private final OPCPackage opcPackage;
+    private final ReadOnlySharedStringsTable sharedStrings;
+    private final InputStream sheetStream;
+    private final XMLStreamReader reader;
+    private final BufferedSourceRow row = new BufferedSourceRow();
+    private final StringBuilder inlineText = new StringBuilder();
+    private int nextRowNum = 0;
+    private boolean finished = false;
+
+    public XlsxEventRowSource(File file) throws IOException {
+        try {
+            this.opcPackage = OPCPackage.open(file, PackageAccess.READ);
+        } catch (OpenXML4JException e) {
+            throw new IOException("Cannot open " + file.getAbsolutePath() + " as an .xlsx file", e);
+        }
+        try {
+            XSSFReader xssfReader = new XSSFReader(opcPackage);
+            this.sharedStrings = new ReadOnlySharedStringsTable(opcPackage, false);
+            Iterator<InputStream> sheets = xssfReader.getSheetsData();
+            if (!sheets.hasNext()) throw new IOException("Workbook " + file.getAbsolutePath() + " has no sheets");
+            this.sheetStream = sheets.next();
+            this.reader = XMLHelper.newXMLInputFactory().createXMLStreamReader(sheetStream);
+        } catch (OpenXML4JException | SAXException | XMLStreamException e) {
+            opcPackage.revert();
+            throw new IOException("Cannot read the first sheet of " + file.getAbsolutePath(), e);
+        } catch (IOException | RuntimeException e) {
+            opcPackage.revert();
+            throw e;
+        }
+    }
+
+    @Override
+    public SourceRow nextRow() throws IOException {
+        if (finished) return null;
+        try {
+            while (reader.hasNext()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT && "row".equals(reader.getLocalName())) {
+                    readRow();
+                    return row;
+                }
+                if (event == XMLStreamConstants.END_ELEMENT && "sheetData".equals(reader.getLocalName())) break;
+            }
+            finished = true;
+            return null;
+        } catch (XMLStreamException | RuntimeException e) {
+            throw new IOException("Malformed sheet data", e);
+        }
+    }
+
+    private void readRow() throws XMLStreamException {
+        String rowRef = reader.getAttributeValue(null, "r");
+        int rowNum = rowRef != null ? Integer.parseInt(rowRef) - 1 : nextRowNum;
+        nextRowNum = rowNum + 1;
+        row.reset(rowNum);
+
+        int nextColumn = 0;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT && "c".equals(reader.getLocalName())) {
+                String cellRef = reader.getAttributeValue(null, "r");
+                int column = cellRef != null ? columnIndexOf(cellRef) : nextColumn;
+                nextColumn = column + 1;
+                readCell(row.cell(column), reader.getAttributeValue(null, "t"));
+            } else if (event == XMLStreamConstants.END_ELEMENT && "row".equals(reader.getLocalName())) {
+                return;
+            }
+        }
+    }
+
+    private void readCell(BufferedSourceCell cell, String type) throws XMLStreamException {
+        String value = null;
+        boolean formula = false;
+        inlineText.setLength(0);
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                    case "v" -> value = reader.getElementText();
+                    case "f" -> {
+                        formula = true;
+                        reader.getElementText();
+                    }
+                    case "t" -> inlineText.append(reader.getElementText()); // Text runs of an inline string
+                    default -> {
+                    }
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT && "c".equals(reader.getLocalName())) {
+                break;
+            }
+        }
+
+        // Mirrors the cell types reported by the workbook DOM, so both import modes behave alike
+        if (formula) {
+            cell.setType(CellType.FORMULA);
+        } else if ("inlineStr".equals(type)) {
+            cell.setString(inlineText.toString());
+        } else if (value == null) {
+            cell.setBlank();
+        } else if ("s".equals(type)) {
+            cell.setString(sharedStrings.getItemAt(Integer.parseInt(value)).getString());
+        } else if ("str".equals(type) || "d".equals(type)) {
+            cell.setString(value);
+        } else if ("b".equals(type)) {
+            cell.setBoolean("1".equals(value) || "true".equalsIgnoreCase(value));
+        } else if ("e".equals(type)) {
+            cell.setType(CellType.ERROR);
+        } else {
+            cell.setNumeric(Double.parseDouble(value));
+        }
+    }
+
+    // Column part of an A1-style reference, e.g. "AB12" -> 27
+    private static int columnIndexOf(String cellRef) {
+        int column = 0;
+        for (int i = 0; i < cellRef.length(); i++) {
+            char ch = cellRef.charAt(i);
+            if (ch < 'A' || ch > 'Z') break;
+            column = column * 26 + (ch - 'A' + 1);
+        }
+        return column - 1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new IOException("Error closing the sheet reader", e);
+        } finally {
+            try {
+                sheetStream.close();
+            } finally {
+                // Read-only packages are released with revert(), close() would try to save them
+                opcPackage.revert();
+            }
+        }
+    }
+}
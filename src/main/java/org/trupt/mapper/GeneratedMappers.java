@@ -0,0 +1,46 @@
+package org.trupt.mapper;
+
+import java.util.Collection;
+import java.util.HashSet;
+
+// Locates the mappers generated for a bean class. They sit next to the class as <Outer_Inner>_RowWriter / _RowReader.
+public final class GeneratedMappers {
+    public static final String WRITER_SUFFIX = "_RowWriter";
+    public static final String READER_SUFFIX = "_RowReader";
+
+    private GeneratedMappers() {
+    }
+
+    // Binary name of the generated class, shared with the processor so both sides agree on it
+    public static String generatedName(String binaryName, String suffix) {
+        int packageEnd = binaryName.lastIndexOf('.');
+        return binaryName.substring(0, packageEnd + 1) + binaryName.substring(packageEnd + 1).replace('$', '_') + suffix;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <Type> RowWriter<Type> findWriter(Class<Type> type, Collection<String> fieldNames) {
+        Object writer = instantiate(type, WRITER_SUFFIX);
+        return writer instanceof RowWriter<?> rowWriter && matches(rowWriter.getFieldNames(), fieldNames) ? (RowWriter<Type>) rowWriter : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <Type> RowReader<Type> findReader(Class<Type> type, Collection<String> fieldNames) {
+        Object reader = instantiate(type, READER_SUFFIX);
+        return reader instanceof RowReader<?> rowReader && matches(rowReader.getFieldNames(), fieldNames) ? (RowReader<Type>) rowReader : null;
+    }
+
+    private static Object instantiate(Class<?> type, String suffix) {
+        try {
+            return Class.forName(generatedName(type.getName(), suffix), true, type.getClassLoader())
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError | SecurityException e) {
+            // No generated mapper, or one that cannot be loaded; callers fall back to reflection
+            return null;
+        }
+    }
+
+    // A mapper compiled against an older version of the class is ignored
+    private static boolean matches(Collection<String> generated, Collection<String> fieldNames) {
+        return generated.size() == fieldNames.size() && new HashSet<>(generated).containsAll(fieldNames);
+    }
+}
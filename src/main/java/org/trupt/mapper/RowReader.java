@@ -0,0 +1,31 @@
+package org.trupt.mapper;
+
+import java.util.List;
+
+// Creates beans and writes their @ExcelCellHeader fields, generated at build time by ExcelMapperProcessor
+public interface RowReader<Type> {
+    // Field names in the order of the column argument of the setters
+    List<String> getFieldNames();
+
+    Type newInstance();
+
+    void set(Type bean, int column, Object value);
+
+    // Generated readers override the primitive setters for fields of that primitive type
+
+    default void setInt(Type bean, int column, int value) {
+        set(bean, column, value);
+    }
+
+    default void setLong(Type bean, int column, long value) {
+        set(bean, column, value);
+    }
+
+    default void setDouble(Type bean, int column, double value) {
+        set(bean, column, value);
+    }
+
+    default void setBoolean(Type bean, int column, boolean value) {
+        set(bean, column, value);
+    }
+}
@@ -0,0 +1,11 @@
+package org.trupt.mapper;
+
+import java.util.List;
+
+// Reads the @ExcelCellHeader fields of a bean, generated at build time by ExcelMapperProcessor
+public interface RowWriter<Type> {
+    // Field names in the order of the column argument of get
+    List<String> getFieldNames();
+
+    Object get(Type bean, int column);
+}
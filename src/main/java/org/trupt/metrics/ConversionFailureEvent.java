@@ -0,0 +1,27 @@
+package org.trupt.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("org.trupt.ConversionFailure")
+@Label("Cell Conversion Failure")
+@Category("Excel Exporter Importer")
+@StackTrace(false)
+class ConversionFailureEvent extends jdk.jfr.Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Type")
+    Class<?> type;
+
+    @Label("Column")
+    String column;
+
+    @Label("Row")
+    int rowNum;
+
+    @Label("Reason")
+    String reason;
+}
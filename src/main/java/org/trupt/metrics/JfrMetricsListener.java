@@ -0,0 +1,57 @@
+package org.trupt.metrics;
+
+import jdk.jfr.EventType;
+
+// Default listener: commits org.trupt.Operation, org.trupt.Phase and org.trupt.ConversionFailure events to any
+// running flight recording, e.g. java -XX:StartFlightRecording=filename=export.jfr. The events are committed when
+// the operation finishes, their Elapsed field holds the measured time. Without a recording it is disabled.
+public class JfrMetricsListener implements MetricsListener {
+    private static final EventType OPERATION_EVENT = EventType.getEventType(OperationEvent.class);
+    private static final EventType PHASE_EVENT = EventType.getEventType(PhaseEvent.class);
+    private static final EventType CONVERSION_FAILURE_EVENT = EventType.getEventType(ConversionFailureEvent.class);
+
+    @Override
+    public boolean isEnabled() {
+        return OPERATION_EVENT.isEnabled() || PHASE_EVENT.isEnabled() || CONVERSION_FAILURE_EVENT.isEnabled();
+    }
+
+    @Override
+    public void phaseCompleted(Operation operation, Class<?> type, Phase phase, long durationNanos) {
+        PhaseEvent event = new PhaseEvent();
+        if (!event.shouldCommit()) return;
+        event.operation = operation.name();
+        event.type = type;
+        event.phase = phase.name();
+        event.elapsed = durationNanos;
+        event.commit();
+    }
+
+    @Override
+    public void conversionFailed(Operation operation, Class<?> type, String column, int rowNum, Throwable cause) {
+        ConversionFailureEvent event = new ConversionFailureEvent();
+        if (!event.shouldCommit()) return;
+        event.operation = operation.name();
+        event.type = type;
+        event.column = column;
+        event.rowNum = rowNum;
+        event.reason = String.valueOf(cause);
+        event.commit();
+    }
+
+    @Override
+    public void operationCompleted(OperationSummary summary) {
+        OperationEvent event = new OperationEvent();
+        if (!event.shouldCommit()) return;
+        event.operation = summary.getOperation().name();
+        event.fileFormat = summary.getFileFormat().name();
+        event.type = summary.getType();
+        event.succeeded = summary.isSucceeded();
+        event.rowCount = summary.getRowCount();
+        event.bytes = summary.getBytes();
+        event.elapsed = summary.getDurationNanos();
+        event.rowsPerSecond = summary.getRowsPerSecond();
+        event.peakBufferedRows = summary.getPeakBufferedRows();
+        event.conversionFailures = summary.getConversionFailures();
+        event.commit();
+    }
+}
@@ -0,0 +1,28 @@
+package org.trupt.metrics;
+
+// Receives the measurements of every export and import. Parallel imports and partitioned exports call
+// conversionFailed from several threads, so implementations must be thread-safe.
+public interface MetricsListener {
+    MetricsListener NONE = new MetricsListener() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+    };
+
+    // Checked once when an operation starts; a disabled listener costs the hot paths nothing
+    default boolean isEnabled() {
+        return true;
+    }
+
+    // Total time of a phase, reported once per phase when the operation finishes
+    default void phaseCompleted(Operation operation, Class<?> type, Phase phase, long durationNanos) {
+    }
+
+    // A cell that could not be converted; reported before the exception is logged or rethrown
+    default void conversionFailed(Operation operation, Class<?> type, String column, int rowNum, Throwable cause) {
+    }
+
+    default void operationCompleted(OperationSummary summary) {
+    }
+}
@@ -0,0 +1,18 @@
+package org.trupt.metrics;
+
+public enum Operation {
+    EXPORT,
+    EXPORT_STREAMING,
+    EXPORT_PARTITIONED,
+    EXPORT_SESSION,
+    IMPORT,
+    IMPORT_STREAMING,
+    IMPORT_BATCHED,
+    IMPORT_PARALLEL,
+    IMPORT_COLUMNAR,
+    IMPORT_LENIENT;
+
+    public boolean isExport() {
+        return this == EXPORT || this == EXPORT_STREAMING || this == EXPORT_PARTITIONED || this == EXPORT_SESSION;
+    }
+}
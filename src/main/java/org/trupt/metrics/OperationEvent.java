@@ -0,0 +1,46 @@
+package org.trupt.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("org.trupt.Operation")
+@Label("Export/Import Operation")
+@Category("Excel Exporter Importer")
+@StackTrace(false)
+class OperationEvent extends jdk.jfr.Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("File Format")
+    String fileFormat;
+
+    @Label("Type")
+    Class<?> type;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    @Label("Rows")
+    long rowCount;
+
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+
+    @Label("Elapsed")
+    @Timespan
+    long elapsed;
+
+    @Label("Rows per Second")
+    double rowsPerSecond;
+
+    @Label("Peak Buffered Rows")
+    long peakBufferedRows;
+
+    @Label("Conversion Failures")
+    long conversionFailures;
+}
@@ -0,0 +1,90 @@
+package org.trupt.metrics;
+
+import org.trupt.config.FileFormat;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Collects the measurements of one export or import and reports them to the listener when it finishes.
+// With a disabled listener every method returns right away, so the instrumented loops only pay for a field read.
+public final class OperationMetrics {
+    private static final Phase[] PHASES = Phase.values();
+    // For code paths that run outside an instrumented operation
+    public static final OperationMetrics DISABLED = new OperationMetrics(MetricsListener.NONE, null, null, null);
+    private final MetricsListener listener;
+    private final Operation operation;
+    private final FileFormat fileFormat;
+    private final Class<?> type;
+    private final boolean enabled;
+    private final long startNanos;
+    private final AtomicLongArray phaseNanos = new AtomicLongArray(PHASES.length);
+    private final AtomicLongArray phaseCounts = new AtomicLongArray(PHASES.length);
+    private final AtomicLong peakBufferedRows = new AtomicLong();
+    private final AtomicLong conversionFailures = new AtomicLong();
+    private final AtomicBoolean finished = new AtomicBoolean();
+    private volatile long rowCount;
+    private volatile long bytes;
+
+    private OperationMetrics(MetricsListener listener, Operation operation, FileFormat fileFormat, Class<?> type) {
+        this.listener = listener;
+        this.operation = operation;
+        this.fileFormat = fileFormat;
+        this.type = type;
+        this.enabled = listener.isEnabled();
+        this.startNanos = enabled ? System.nanoTime() : 0;
+    }
+
+    public static OperationMetrics start(MetricsListener listener, Operation operation, FileFormat fileFormat, Class<?> type) {
+        return new OperationMetrics(listener, operation, fileFormat, type);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public long startPhase() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    // Adds the time since phaseStart to the phase. Returns the end time, so consecutive phases can share the timestamp.
+    public long endPhase(Phase phase, long phaseStart) {
+        if (!enabled) return 0;
+        long now = System.nanoTime();
+        phaseNanos.addAndGet(phase.ordinal(), now - phaseStart);
+        phaseCounts.incrementAndGet(phase.ordinal());
+        return now;
+    }
+
+    public void conversionFailed(String column, int rowNum, Throwable cause) {
+        if (!enabled) return;
+        conversionFailures.incrementAndGet();
+        listener.conversionFailed(operation, type, column, rowNum, cause);
+    }
+
+    public void setRowCount(long rowCount) {
+        this.rowCount = rowCount;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public void bufferedRows(long rows) {
+        if (enabled) peakBufferedRows.accumulateAndGet(rows, Math::max);
+    }
+
+    // Reports the phases and the summary; only the first call counts
+    public void finish(boolean succeeded) {
+        if (!enabled || !finished.compareAndSet(false, true)) return;
+        long durationNanos = System.nanoTime() - startNanos;
+        for (Phase phase : PHASES)
+            if (phaseCounts.get(phase.ordinal()) > 0) listener.phaseCompleted(operation, type, phase, phaseNanos.get(phase.ordinal()));
+        listener.operationCompleted(new OperationSummary(operation, fileFormat, type, succeeded, rowCount, bytes, durationNanos,
+                peakBufferedRows.get(), conversionFailures.get()));
+    }
+}
@@ -0,0 +1,79 @@
+package org.trupt.metrics;
+
+import org.trupt.config.FileFormat;
+
+public class OperationSummary {
+    private final Operation operation;
+    private final FileFormat fileFormat;
+    private final Class<?> type;
+    private final boolean succeeded;
+    private final long rowCount;
+    private final long bytes;
+    private final long durationNanos;
+    private final long peakBufferedRows;
+    private final long conversionFailures;
+
+    OperationSummary(Operation operation, FileFormat fileFormat, Class<?> type, boolean succeeded, long rowCount, long bytes,
+                     long durationNanos, long peakBufferedRows, long conversionFailures) {
+        this.operation = operation;
+        this.fileFormat = fileFormat;
+        this.type = type;
+        this.succeeded = succeeded;
+        this.rowCount = rowCount;
+        this.bytes = bytes;
+        this.durationNanos = durationNanos;
+        this.peakBufferedRows = peakBufferedRows;
+        this.conversionFailures = conversionFailures;
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public FileFormat getFileFormat() {
+        return fileFormat;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public boolean isSucceeded() {
+        return succeeded;
+    }
+
+    // Data rows written or imported, without header and footer rows
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    // Bytes written by an export, size of the imported file for an import
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public double getRowsPerSecond() {
+        return durationNanos == 0 ? 0 : rowCount * 1_000_000_000.0 / durationNanos;
+    }
+
+    // Most rows held on the heap at once: the whole sheet for in-memory workbooks, the row window for streaming
+    // exports, the batch or the chunks in flight for batched and parallel imports
+    public long getPeakBufferedRows() {
+        return peakBufferedRows;
+    }
+
+    public long getConversionFailures() {
+        return conversionFailures;
+    }
+
+    @Override
+    public String toString() {
+        return operation + " " + fileFormat + " " + type.getSimpleName() + ": " + rowCount + " rows, " + bytes + " bytes in "
+                + durationNanos / 1_000_000 + " ms (" + Math.round(getRowsPerSecond()) + " rows/s), peak buffered rows "
+                + peakBufferedRows + ", conversion failures " + conversionFailures + (succeeded ? "" : ", failed");
+    }
+}
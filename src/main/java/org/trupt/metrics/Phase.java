@@ -0,0 +1,14 @@
+package org.trupt.metrics;
+
+public enum Phase {
+    // Schema lookup, localized headers and binding the header row of an import
+    HEADER_RESOLUTION,
+    // Beans to cells on export, cells to beans (or columns) on import
+    ROW_MAPPING,
+    // SUM and AVERAGE rows
+    AGGREGATE_FOOTER,
+    // Writing the workbook package or flushing the delimited file
+    SERIALIZATION,
+    // Opening the file and reading its rows
+    PARSE
+}
@@ -0,0 +1,26 @@
+package org.trupt.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("org.trupt.Phase")
+@Label("Export/Import Phase")
+@Category("Excel Exporter Importer")
+@StackTrace(false)
+class PhaseEvent extends jdk.jfr.Event {
+    @Label("Operation")
+    String operation;
+
+    @Label("Type")
+    Class<?> type;
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Elapsed")
+    @Timespan
+    long elapsed;
+}
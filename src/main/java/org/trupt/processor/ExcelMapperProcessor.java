@@ -0,0 +1,269 @@
+package org.trupt.processor;
+
+import org.trupt.mapper.GeneratedMappers;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Generates a RowWriter and a RowReader next to every class with @ExcelCellHeader fields. The mappers access
+// non-private fields directly and private ones through their getter and setter. A field without an accessor for
+// one direction (or a final field, for the reader) leaves the class on reflection for that direction.
+@SupportedAnnotationTypes("org.trupt.annotation.ExcelCellHeader")
+public class ExcelMapperProcessor extends AbstractProcessor {
+    private static final String ANNOTATION = "org.trupt.annotation.ExcelCellHeader";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        Set<TypeElement> types = new LinkedHashSet<>();
+        for (TypeElement annotation : annotations)
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation))
+                if (element.getKind() == ElementKind.FIELD) types.add((TypeElement) element.getEnclosingElement());
+
+        for (TypeElement type : types) {
+            try {
+                generate(type);
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Cannot write mapper: " + e.getMessage(), type);
+            }
+        }
+        return false;
+    }
+
+    private void generate(TypeElement type) throws IOException {
+        if (!isReachable(type)) {
+            note(type, "class is not accessible from its package");
+            return;
+        }
+
+        // Same order as the fields in the source, the runtime matches them by name
+        List<VariableElement> fields = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements()))
+            if (hasAnnotation(field)) fields.add(field);
+        if (fields.stream().anyMatch(field -> field.getModifiers().contains(Modifier.STATIC))) {
+            note(type, "static fields are not supported");
+            return;
+        }
+
+        List<String> getters = new ArrayList<>();
+        List<String> setters = new ArrayList<>();
+        for (VariableElement field : fields) {
+            getters.add(getterExpression(type, field));
+            setters.add(setterStatement(type, field));
+        }
+
+        if (getters.contains(null)) note(type, "private field without an accessible getter, RowWriter not generated");
+        else writeWriter(type, fields, getters);
+
+        if (setters.contains(null)) note(type, "final field or private field without an accessible setter, RowReader not generated");
+        else if (!hasAccessibleConstructor(type)) note(type, "no accessible no-arg constructor, RowReader not generated");
+        else writeReader(type, fields, setters);
+    }
+
+    private boolean hasAnnotation(Element element) {
+        return element.getAnnotationMirrors().stream()
+                .anyMatch(mirror -> ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(ANNOTATION));
+    }
+
+    private boolean isReachable(TypeElement type) {
+        for (Element element = type; element instanceof TypeElement typeElement; element = element.getEnclosingElement()) {
+            if (typeElement.getModifiers().contains(Modifier.PRIVATE)) return false;
+            if (typeElement.getNestingKind() == NestingKind.LOCAL || typeElement.getNestingKind() == NestingKind.ANONYMOUS) return false;
+            if (typeElement.getNestingKind() == NestingKind.MEMBER && !typeElement.getModifiers().contains(Modifier.STATIC)
+                    && typeElement.getKind() == ElementKind.CLASS) return false;
+        }
+        return type.getKind() == ElementKind.CLASS;
+    }
+
+    private boolean hasAccessibleConstructor(TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT)) return false;
+        return ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+                .anyMatch(constructor -> constructor.getParameters().isEmpty() && !constructor.getModifiers().contains(Modifier.PRIVATE));
+    }
+
+    private String getterExpression(TypeElement type, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) return "bean." + name;
+        String capitalized = capitalize(name);
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            String methodName = method.getSimpleName().toString();
+            boolean named = methodName.equals("get" + capitalized)
+                    || field.asType().getKind() == TypeKind.BOOLEAN && methodName.equals("is" + capitalized);
+            if (named && isAccessibleInstanceMethod(method) && method.getParameters().isEmpty()
+                    && processingEnv.getTypeUtils().isSameType(method.getReturnType(), field.asType()))
+                return "bean." + methodName + "()";
+        }
+        return null;
+    }
+
+    // Statement with a %s placeholder for the value, null when the field cannot be set
+    private String setterStatement(TypeElement type, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        if (field.getModifiers().contains(Modifier.FINAL)) return null;
+        if (!field.getModifiers().contains(Modifier.PRIVATE)) return "bean." + name + " = %s";
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            if (method.getSimpleName().contentEquals("set" + capitalize(name)) && isAccessibleInstanceMethod(method)
+                    && method.getParameters().size() == 1
+                    && processingEnv.getTypeUtils().isSameType(method.getParameters().get(0).asType(), field.asType()))
+                return "bean." + method.getSimpleName() + "(%s)";
+        }
+        return null;
+    }
+
+    private boolean isAccessibleInstanceMethod(ExecutableElement method) {
+        return !method.getModifiers().contains(Modifier.PRIVATE) && !method.getModifiers().contains(Modifier.STATIC);
+    }
+
+    private void writeWriter(TypeElement type, List<VariableElement> fields, List<String> getters) throws IOException {
+        String generatedName = generatedSimpleName(type, GeneratedMappers.WRITER_SUFFIX);
+        String beanType = beanTypeName(type);
+        try (PrintWriter out = openSource(type, generatedName)) {
+            out.println("public final class " + generatedName + typeParameters(type) + " implements org.trupt.mapper.RowWriter<" + beanType + "> {");
+            writeFieldNames(out, fields);
+            out.println();
+            out.println("    @Override");
+            out.println("    public Object get(" + beanType + " bean, int column) {");
+            out.println("        return switch (column) {");
+            for (int i = 0; i < fields.size(); i++)
+                out.println("            case " + i + " -> " + getters.get(i) + ";");
+            out.println("            default -> throw new IndexOutOfBoundsException(\"Column \" + column);");
+            out.println("        };");
+            out.println("    }");
+            out.println("}");
+        }
+    }
+
+    private void writeReader(TypeElement type, List<VariableElement> fields, List<String> setters) throws IOException {
+        String generatedName = generatedSimpleName(type, GeneratedMappers.READER_SUFFIX);
+        String beanType = beanTypeName(type);
+        try (PrintWriter out = openSource(type, generatedName)) {
+            out.println("public final class " + generatedName + typeParameters(type) + " implements org.trupt.mapper.RowReader<" + beanType + "> {");
+            writeFieldNames(out, fields);
+            out.println();
+            out.println("    @Override");
+            out.println("    public " + beanType + " newInstance() {");
+            out.println("        return new " + type.getQualifiedName() + (type.getTypeParameters().isEmpty() ? "()" : "<>()") + ";");
+            out.println("    }");
+            out.println();
+            out.println("    @Override");
+            out.println("    @SuppressWarnings(\"unchecked\")");
+            out.println("    public void set(" + beanType + " bean, int column, Object value) {");
+            out.println("        switch (column) {");
+            for (int i = 0; i < fields.size(); i++)
+                out.println("            case " + i + " -> " + setters.get(i).formatted("(" + boxedTypeName(fields.get(i).asType()) + ") value") + ";");
+            out.println("            default -> throw new IndexOutOfBoundsException(\"Column \" + column);");
+            out.println("        }");
+            out.println("    }");
+            for (TypeKind kind : List.of(TypeKind.INT, TypeKind.LONG, TypeKind.DOUBLE, TypeKind.BOOLEAN))
+                writePrimitiveSetter(out, beanType, kind, fields, setters);
+            out.println("}");
+        }
+    }
+
+    // Primitive fields are written without boxing, any other column falls back to set
+    private void writePrimitiveSetter(PrintWriter out, String beanType, TypeKind kind, List<VariableElement> fields, List<String> setters) {
+        if (fields.stream().noneMatch(field -> field.asType().getKind() == kind)) return;
+        String primitive = kind.name().toLowerCase(Locale.ROOT);
+        out.println();
+        out.println("    @Override");
+        out.println("    public void set" + capitalize(primitive) + "(" + beanType + " bean, int column, " + primitive + " value) {");
+        out.println("        switch (column) {");
+        for (int i = 0; i < fields.size(); i++)
+            if (fields.get(i).asType().getKind() == kind)
+                out.println("            case " + i + " -> " + setters.get(i).formatted("value") + ";");
+        out.println("            default -> set(bean, column, value);");
+        out.println("        }");
+        out.println("    }");
+    }
+
+    private void writeFieldNames(PrintWriter out, List<VariableElement> fields) {
+        String names = fields.stream().map(field -> "\"" + field.getSimpleName() + "\"").collect(Collectors.joining(", "));
+        out.println("    private static final java.util.List<String> FIELD_NAMES = java.util.List.of(" + names + ");");
+        out.println();
+        out.println("    @Override");
+        out.println("    public java.util.List<String> getFieldNames() {");
+        out.println("        return FIELD_NAMES;");
+        out.println("    }");
+    }
+
+    private PrintWriter openSource(TypeElement type, String generatedName) throws IOException {
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String qualifiedName = packageName.isEmpty() ? generatedName : packageName + "." + generatedName;
+        PrintWriter out = new PrintWriter(processingEnv.getFiler().createSourceFile(qualifiedName, type).openWriter());
+        if (!packageName.isEmpty()) {
+            out.println("package " + packageName + ";");
+            out.println();
+        }
+        out.println("// Generated by " + ExcelMapperProcessor.class.getName() + " from " + type.getQualifiedName() + ", do not edit");
+        return out;
+    }
+
+    private String generatedSimpleName(TypeElement type, String suffix) {
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String generatedName = GeneratedMappers.generatedName(binaryName, suffix);
+        return generatedName.substring(generatedName.lastIndexOf('.') + 1);
+    }
+
+    // Declared type of the field, type variables included, the unchecked cast is suppressed on set
+    private String boxedTypeName(TypeMirror type) {
+        if (type.getKind().isPrimitive())
+            return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        return type.toString();
+    }
+
+    // Generic beans get mappers with the same type parameters, e.g. Box_RowReader<T> implements RowReader<Box<T>>
+    private static String beanTypeName(TypeElement type) {
+        if (type.getTypeParameters().isEmpty()) return type.getQualifiedName().toString();
+        return type.getQualifiedName() + type.getTypeParameters().stream()
+                .map(parameter -> parameter.getSimpleName().toString())
+                .collect(Collectors.joining(", ", "<", ">"));
+    }
+
+    private static String typeParameters(TypeElement type) {
+        if (type.getTypeParameters().isEmpty()) return "";
+        return type.getTypeParameters().stream().map(ExcelMapperProcessor::typeParameter).collect(Collectors.joining(", ", "<", ">"));
+    }
+
+    private static String typeParameter(TypeParameterElement parameter) {
+        List<String> bounds = parameter.getBounds().stream().map(TypeMirror::toString)
+                .filter(bound -> !bound.equals("java.lang.Object")).toList();
+        return bounds.isEmpty() ? parameter.getSimpleName().toString() : parameter.getSimpleName() + " extends " + String.join(" & ", bounds);
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private void note(TypeElement type, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "No Excel mapper for " + type.getQualifiedName() + ": " + message, type);
+    }
+}
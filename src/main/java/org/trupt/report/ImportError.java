@@ -0,0 +1,46 @@
+package org.trupt.report;
+
+// One cell that could not be imported; row numbers are zero-based sheet row indexes
+public class ImportError {
+    private final int rowNum;
+    private final int columnIndex;
+    private final String column;
+    private final String rawValue;
+    private final String reason;
+
+    public ImportError(int rowNum, int columnIndex, String column, String rawValue, String reason) {
+        this.rowNum = rowNum;
+        this.columnIndex = columnIndex;
+        this.column = column;
+        this.rawValue = rawValue;
+        this.reason = reason;
+    }
+
+    public int getRowNum() {
+        return rowNum;
+    }
+
+    // Sheet column of the cell
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    // Header of the column
+    public String getColumn() {
+        return column;
+    }
+
+    // Cell content as text, null when the cell is missing
+    public String getRawValue() {
+        return rawValue;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    @Override
+    public String toString() {
+        return "Row " + (rowNum + 1) + ", column '" + column + "'" + (rawValue == null ? "" : " (\"" + rawValue + "\")") + ": " + reason;
+    }
+}
@@ -0,0 +1,49 @@
+package org.trupt.report;
+
+import java.util.List;
+
+// Outcome of a lenient import: the rows that were imported and the errors of the rows that were not
+public class ImportReport<Type> {
+    private final List<Type> rows;
+    private final List<ImportError> errors;
+    private final long errorCount;
+    private final long rejectedRowCount;
+
+    public ImportReport(List<Type> rows, List<ImportError> errors, long errorCount, long rejectedRowCount) {
+        this.rows = rows;
+        this.errors = errors;
+        this.errorCount = errorCount;
+        this.rejectedRowCount = rejectedRowCount;
+    }
+
+    public List<Type> getRows() {
+        return rows;
+    }
+
+    // In sheet order, at most LenientImportOptions.getMaxErrors() of them
+    public List<ImportError> getErrors() {
+        return errors;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    // Whether errors were counted but not kept
+    public boolean isTruncated() {
+        return errorCount > errors.size();
+    }
+
+    public long getRejectedRowCount() {
+        return rejectedRowCount;
+    }
+
+    public boolean hasErrors() {
+        return errorCount > 0;
+    }
+
+    @Override
+    public String toString() {
+        return "Imported " + rows.size() + " rows, rejected " + rejectedRowCount + " rows with " + errorCount + " errors";
+    }
+}
@@ -0,0 +1,171 @@
+package org.trupt.schema;
+
+import org.trupt.annotation.ExcelCellHeader;
+import org.trupt.mapper.RowReader;
+import org.trupt.mapper.RowWriter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+public class ColumnSchema {
+    private final int index;
+    private final Field field;
+    private final ExcelCellHeader header;
+    private final MethodHandle getter; // (Object)Object
+    private final MethodHandle setter; // (Object,Object)void, null when the field cannot be written
+    // (Object,primitive)void, only present for fields of exactly that primitive type
+    private final MethodHandle intSetter;
+    private final MethodHandle longSetter;
+    private final MethodHandle doubleSetter;
+    private final MethodHandle booleanSetter;
+    // Generated mappers take over from the handles when present, addressing the field by its position in the mapper
+    private final RowWriter<Object> rowWriter;
+    private final int writerIndex;
+    private final RowReader<Object> rowReader;
+    private final int readerIndex;
+
+    @SuppressWarnings("unchecked")
+    ColumnSchema(int index, Field field, ExcelCellHeader header, MethodHandle getter, MethodHandle fieldSetter,
+                 RowWriter<?> rowWriter, RowReader<?> rowReader) {
+        this.index = index;
+        this.field = field;
+        this.header = header;
+        this.getter = getter;
+        this.rowWriter = (RowWriter<Object>) rowWriter;
+        this.writerIndex = rowWriter == null ? -1 : rowWriter.getFieldNames().indexOf(field.getName());
+        this.rowReader = (RowReader<Object>) rowReader;
+        this.readerIndex = rowReader == null ? -1 : rowReader.getFieldNames().indexOf(field.getName());
+        this.setter = fieldSetter == null ? null : fieldSetter.asType(MethodType.methodType(void.class, Object.class, Object.class));
+        this.intSetter = primitiveSetter(fieldSetter, int.class);
+        this.longSetter = primitiveSetter(fieldSetter, long.class);
+        this.doubleSetter = primitiveSetter(fieldSetter, double.class);
+        this.booleanSetter = primitiveSetter(fieldSetter, boolean.class);
+    }
+
+    private MethodHandle primitiveSetter(MethodHandle fieldSetter, Class<?> primitiveType) {
+        if (fieldSetter == null || field.getType() != primitiveType) return null;
+        return fieldSetter.asType(MethodType.methodType(void.class, Object.class, primitiveType));
+    }
+
+    // Position of the column among the annotated fields of the class
+    public int getIndex() {
+        return index;
+    }
+
+    public Field getField() {
+        return field;
+    }
+
+    public ExcelCellHeader getHeader() {
+        return header;
+    }
+
+    public String getName() {
+        return field.getName();
+    }
+
+    public Class<?> getType() {
+        return field.getType();
+    }
+
+    public Object get(Object bean) {
+        if (rowWriter != null) return rowWriter.get(bean, writerIndex);
+        try {
+            return (Object) getter.invokeExact(bean);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Error reading field " + field.getName(), t);
+        }
+    }
+
+    public void set(Object bean, Object value) {
+        if (rowReader != null) {
+            rowReader.set(bean, readerIndex, value);
+            return;
+        }
+        if (setter == null) throw new IllegalStateException("Field " + field.getName() + " cannot be written");
+        try {
+            setter.invokeExact(bean, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Error writing field " + field.getName(), t);
+        }
+    }
+
+    // Primitive setters write primitive fields without boxing, any other field type gets the boxed value
+
+    public void setInt(Object bean, int value) {
+        if (rowReader != null) {
+            rowReader.setInt(bean, readerIndex, value);
+            return;
+        }
+        if (intSetter == null) {
+            set(bean, value);
+            return;
+        }
+        try {
+            intSetter.invokeExact(bean, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Error writing field " + field.getName(), t);
+        }
+    }
+
+    public void setLong(Object bean, long value) {
+        if (rowReader != null) {
+            rowReader.setLong(bean, readerIndex, value);
+            return;
+        }
+        if (longSetter == null) {
+            set(bean, value);
+            return;
+        }
+        try {
+            longSetter.invokeExact(bean, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Error writing field " + field.getName(), t);
+        }
+    }
+
+    public void setDouble(Object bean, double value) {
+        if (rowReader != null) {
+            rowReader.setDouble(bean, readerIndex, value);
+            return;
+        }
+        if (doubleSetter == null) {
+            set(bean, value);
+            return;
+        }
+        try {
+            doubleSetter.invokeExact(bean, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Error writing field " + field.getName(), t);
+        }
+    }
+
+    public void setBoolean(Object bean, boolean value) {
+        if (rowReader != null) {
+            rowReader.setBoolean(bean, readerIndex, value);
+            return;
+        }
+        if (booleanSetter == null) {
+            set(bean, value);
+            return;
+        }
+        try {
+            booleanSetter.invokeExact(bean, value);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new IllegalStateException("Error writing field " + field.getName(), t);
+        }
+    }
+}
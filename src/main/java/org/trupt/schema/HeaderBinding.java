@@ -0,0 +1,66 @@
+package org.trupt.schema;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// Sheet column of every schema column, resolved once from the header row and reused for all data rows
+public class HeaderBinding {
+    private final int[] columnIndexes;
+
+    private HeaderBinding(int[] columnIndexes) {
+        this.columnIndexes = columnIndexes;
+    }
+
+    // headerCells holds the header text by sheet column index, null for empty cells.
+    // Every missing or duplicated header is reported at once, before any data row is read.
+    public static HeaderBinding bind(RowSchema<?> schema, List<String> headerCells) {
+        Map<String, Integer> requested = new HashMap<>();
+        for (ColumnSchema column : schema.getColumns()) {
+            Integer previous = requested.putIfAbsent(normalize(column.getHeader().headerName()), column.getIndex());
+            // Both fields would be bound to the same sheet column, the class itself is wrong
+            if (previous != null)
+                throw new IllegalArgumentException("Fields " + schema.getColumns().get(previous).getName() + " and " + column.getName()
+                        + " of " + schema.getType().getName() + " have the same header: " + column.getHeader().headerName());
+        }
+
+        int[] columnIndexes = new int[schema.size()];
+        Arrays.fill(columnIndexes, -1);
+        List<String> duplicates = new ArrayList<>();
+        for (int cellIndex = 0; cellIndex < headerCells.size(); cellIndex++) {
+            String headerCell = headerCells.get(cellIndex);
+            if (headerCell == null) continue;
+            Integer columnIndex = requested.get(normalize(headerCell));
+            if (columnIndex == null) continue;
+            if (columnIndexes[columnIndex] != -1) {
+                duplicates.add(headerCell);
+            } else {
+                columnIndexes[columnIndex] = cellIndex;
+            }
+        }
+
+        List<String> missing = new ArrayList<>();
+        for (ColumnSchema column : schema.getColumns())
+            if (columnIndexes[column.getIndex()] == -1) missing.add(column.getHeader().headerName());
+
+        if (!missing.isEmpty() || !duplicates.isEmpty()) {
+            StringBuilder message = new StringBuilder("Invalid header row.");
+            if (!missing.isEmpty()) message.append(" Columns not found: ").append(missing).append('.');
+            if (!duplicates.isEmpty()) message.append(" Duplicate columns: ").append(duplicates).append('.');
+            throw new IllegalArgumentException(message.toString());
+        }
+        return new HeaderBinding(columnIndexes);
+    }
+
+    private static String normalize(String headerName) {
+        // Headers are matched case-insensitively
+        return headerName.toLowerCase(Locale.ROOT);
+    }
+
+    public int getColumnIndex(ColumnSchema column) {
+        return columnIndexes[column.getIndex()];
+    }
+}
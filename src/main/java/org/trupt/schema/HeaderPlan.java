@@ -0,0 +1,69 @@
+package org.trupt.schema;
+
+import org.trupt.annotation.ExcelCellHeader;
+
+import java.util.Locale;
+import java.util.ResourceBundle;
+
+// Localized header texts, initial column widths and footer labels of one class in one locale.
+// Immutable, so a cached plan is shared by every export of that class and locale.
+public final class HeaderPlan {
+    private final Class<?> type;
+    private final Locale locale;
+    private final String[] headerNames;
+    private final int[] initialWidths;
+    private final String sumRowName;
+    private final String avgRowName;
+
+    private HeaderPlan(RowSchema<?> schema, Locale locale, ResourceBundle resourceBundle) {
+        this.type = schema.getType();
+        this.locale = locale;
+        this.headerNames = new String[schema.size()];
+        this.initialWidths = new int[schema.size()];
+        boolean hasSum = false;
+        boolean hasAverage = false;
+        for (ColumnSchema column : schema.getColumns()) {
+            ExcelCellHeader header = column.getHeader();
+            String headerName = resourceBundle.getString(header.headerName());
+            headerNames[column.getIndex()] = headerName;
+            // A width on the annotation wins, otherwise the header text gives the initial width
+            initialWidths[column.getIndex()] = header.width() > 0 ? Math.min(header.width(), 255) * 256 : (headerName.length() + 2) * 256;
+            hasSum |= header.calculateSum();
+            hasAverage |= header.calculateAverage();
+        }
+        // Bundles without SUM or AVERAGE columns do not need the labels
+        this.sumRowName = hasSum ? resourceBundle.getString("sumRowName") : null;
+        this.avgRowName = hasAverage ? resourceBundle.getString("avgRowName") : null;
+    }
+
+    public static HeaderPlan resolve(RowSchema<?> schema, Locale locale) {
+        return new HeaderPlan(schema, locale, ResourceBundle.getBundle("Bundle", locale));
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    public String getHeaderName(ColumnSchema column) {
+        return headerNames[column.getIndex()];
+    }
+
+    // In 1/256ths of a character, as taken by Sheet.setColumnWidth
+    public int getInitialWidth(ColumnSchema column) {
+        return initialWidths[column.getIndex()];
+    }
+
+    // Null when no column has a SUM
+    public String getSumRowName() {
+        return sumRowName;
+    }
+
+    // Null when no column has an AVERAGE
+    public String getAvgRowName() {
+        return avgRowName;
+    }
+}
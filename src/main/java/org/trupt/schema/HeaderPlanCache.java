@@ -0,0 +1,74 @@
+package org.trupt.schema;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+
+// Least recently used HeaderPlans per (class, locale). Exporters share one cache unless their options name another.
+public class HeaderPlanCache {
+    public static final int DEFAULT_MAXIMUM_SIZE = 256;
+    private static final HeaderPlanCache SHARED = new HeaderPlanCache(DEFAULT_MAXIMUM_SIZE);
+
+    private final int maximumSize;
+    private final Map<Key, HeaderPlan> plans;
+
+    public HeaderPlanCache(int maximumSize) {
+        if (maximumSize < 1) throw new IllegalArgumentException("Maximum size must be positive.");
+        this.maximumSize = maximumSize;
+        this.plans = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, HeaderPlan> eldest) {
+                return size() > HeaderPlanCache.this.maximumSize;
+            }
+        };
+    }
+
+    public static HeaderPlanCache shared() {
+        return SHARED;
+    }
+
+    public HeaderPlan get(RowSchema<?> schema, Locale locale) {
+        Key key = new Key(schema.getType(), locale);
+        synchronized (plans) {
+            HeaderPlan plan = plans.get(key);
+            if (plan != null) return plan;
+        }
+        // Resolved outside the lock, two threads missing at once both resolve the same immutable plan
+        HeaderPlan plan = HeaderPlan.resolve(schema, locale);
+        synchronized (plans) {
+            HeaderPlan existing = plans.putIfAbsent(key, plan);
+            return existing != null ? existing : plan;
+        }
+    }
+
+    // Call after the Bundle properties change at runtime. Also clears the JDK's bundle cache, so the next export reads them again.
+    public void invalidateAll() {
+        synchronized (plans) {
+            plans.clear();
+        }
+        ResourceBundle.clearCache();
+    }
+
+    public void invalidate(Locale locale) {
+        synchronized (plans) {
+            plans.keySet().removeIf(key -> key.locale().equals(locale));
+        }
+        ResourceBundle.clearCache();
+    }
+
+    public void invalidate(Class<?> type) {
+        synchronized (plans) {
+            plans.keySet().removeIf(key -> key.type() == type);
+        }
+    }
+
+    public int size() {
+        synchronized (plans) {
+            return plans.size();
+        }
+    }
+
+    private record Key(Class<?> type, Locale locale) {
+    }
+}
@@ -0,0 +1,127 @@
+package org.trupt.schema;
+
+import org.trupt.annotation.ExcelCellHeader;
+import org.trupt.mapper.GeneratedMappers;
+import org.trupt.mapper.RowReader;
+import org.trupt.mapper.RowWriter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// Annotated columns of a bean class, resolved once per class and shared by every export and import
+public class RowSchema<Type> {
+    private static final ClassValue<RowSchema<?>> SCHEMAS = new ClassValue<>() {
+        @Override
+        protected RowSchema<?> computeValue(Class<?> type) {
+            return new RowSchema<>(type);
+        }
+    };
+
+    private final Class<Type> type;
+    private final List<ColumnSchema> columns;
+    private final MethodHandle constructor; // ()Object, null when the class cannot be instantiated
+    private final ReflectiveOperationException constructorError;
+    private final RowReader<Type> rowReader; // generated, null when beans are created through the constructor handle
+
+    private RowSchema(Class<Type> type) {
+        this.type = type;
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        List<Field> fields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields())
+            if (field.isAnnotationPresent(ExcelCellHeader.class)) fields.add(field);
+
+        // Mappers generated by ExcelMapperProcessor replace the method handles when present
+        List<String> fieldNames = fields.stream().map(Field::getName).toList();
+        RowWriter<Type> writer = GeneratedMappers.findWriter(type, fieldNames);
+        RowReader<Type> reader = GeneratedMappers.findReader(type, fieldNames);
+        this.rowReader = reader;
+
+        List<ColumnSchema> resolved = new ArrayList<>();
+        for (Field field : fields) {
+            // Access checks are paid once here instead of on every cell
+            field.setAccessible(true);
+            try {
+                MethodHandle getter = onInstance(field, lookup.unreflectGetter(field))
+                        .asType(MethodType.methodType(Object.class, Object.class));
+                resolved.add(new ColumnSchema(resolved.size(), field, field.getAnnotation(ExcelCellHeader.class),
+                        getter, unreflectSetter(lookup, field), writer, reader));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot access field " + field.getName() + " of " + type.getName(), e);
+            }
+        }
+        this.columns = Collections.unmodifiableList(resolved);
+
+        MethodHandle resolvedConstructor = null;
+        ReflectiveOperationException error = null;
+        try {
+            if (Modifier.isAbstract(type.getModifiers())) throw new InstantiationException(type.getName() + " is abstract");
+            Constructor<Type> declared = type.getDeclaredConstructor();
+            declared.setAccessible(true);
+            resolvedConstructor = lookup.unreflectConstructor(declared).asType(MethodType.methodType(Object.class));
+        } catch (ReflectiveOperationException e) {
+            error = e;
+        }
+        this.constructor = resolvedConstructor;
+        this.constructorError = error;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <Type> RowSchema<Type> of(Class<Type> type) {
+        if (type == null) throw new IllegalArgumentException("Type cannot be null.");
+        return (RowSchema<Type>) SCHEMAS.get(type);
+    }
+
+    private static MethodHandle unreflectSetter(MethodHandles.Lookup lookup, Field field) {
+        try {
+            return onInstance(field, lookup.unreflectSetter(field));
+        } catch (IllegalAccessException e) {
+            // Final fields can still be exported
+            return null;
+        }
+    }
+
+    // Static fields are read and written like instance fields, as reflection did, the bean argument is ignored
+    private static MethodHandle onInstance(Field field, MethodHandle handle) {
+        if (!Modifier.isStatic(field.getModifiers())) return handle;
+        return MethodHandles.dropArguments(handle, 0, field.getDeclaringClass());
+    }
+
+    public Class<Type> getType() {
+        return type;
+    }
+
+    public List<ColumnSchema> getColumns() {
+        return columns;
+    }
+
+    public int size() {
+        return columns.size();
+    }
+
+    public Type newInstance() throws ReflectiveOperationException {
+        if (rowReader != null) {
+            try {
+                return rowReader.newInstance();
+            } catch (RuntimeException e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+        if (constructor == null) throw constructorError;
+        try {
+            return type.cast((Object) constructor.invokeExact());
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+}
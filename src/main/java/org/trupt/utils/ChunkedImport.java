@@ -0,0 +1,95 @@
+package org.trupt.utils;
+
+import org.trupt.exception.ChunkImportException;
+import org.trupt.exception.ParallelImportException;
+import org.trupt.io.SourceRow;
+import org.trupt.metrics.OperationMetrics;
+import org.trupt.metrics.Phase;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+// Maps chunks of detached rows on an executor and reassembles the results, either in sheet order or as chunks complete.
+// A failing chunk does not stop the others; all failures are reported together once every chunk has finished.
+class ChunkedImport<Type> {
+    private final RowMapper<Type> rowMapper;
+    private final ExecutorCompletionService<List<Type>> completionService;
+    private final boolean ordered;
+    private final int maxChunksInFlight;
+    private final Semaphore chunksInFlight;
+    private final OperationMetrics metrics;
+    private final List<Future<List<Type>>> futures = new ArrayList<>();
+
+    ChunkedImport(RowMapper<Type> rowMapper, ExecutorService executor, boolean ordered, int maxChunksInFlight, OperationMetrics metrics) {
+        this.rowMapper = rowMapper;
+        this.completionService = new ExecutorCompletionService<>(executor);
+        this.ordered = ordered;
+        this.maxChunksInFlight = maxChunksInFlight;
+        this.chunksInFlight = new Semaphore(maxChunksInFlight);
+        this.metrics = metrics;
+    }
+
+    // Blocks while the maximum number of chunks is already being converted
+    void submit(List<SourceRow> rows) throws InterruptedException {
+        int chunkIndex = futures.size();
+        chunksInFlight.acquire();
+        // Approximated with the size of the submitted chunk, only the last chunk is smaller
+        metrics.bufferedRows((long) (maxChunksInFlight - chunksInFlight.availablePermits()) * rows.size());
+        try {
+            futures.add(completionService.submit(() -> mapChunk(chunkIndex, rows)));
+        } catch (RejectedExecutionException e) {
+            chunksInFlight.release();
+            throw e;
+        }
+    }
+
+    private List<Type> mapChunk(int chunkIndex, List<SourceRow> rows) {
+        SourceRow row = null;
+        long phaseStart = metrics.startPhase();
+        try {
+            List<Type> result = new ArrayList<>(rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                row = rows.get(i);
+                result.add(rowMapper.map(row));
+            }
+            // Summed over the workers, so it can exceed the elapsed time
+            metrics.endPhase(Phase.ROW_MAPPING, phaseStart);
+            return result;
+        } catch (RuntimeException e) {
+            int failedRowNum = row == null ? rows.get(0).getRowNum() : row.getRowNum();
+            throw new ChunkImportException(chunkIndex, rows.get(0).getRowNum(), rows.get(rows.size() - 1).getRowNum(), failedRowNum, e);
+        } finally {
+            chunksInFlight.release();
+        }
+    }
+
+    List<Type> collect() throws InterruptedException {
+        List<Type> result = new ArrayList<>();
+        List<ChunkImportException> failures = new ArrayList<>();
+        for (Future<List<Type>> orderedFuture : futures) {
+            Future<List<Type>> future = ordered ? orderedFuture : completionService.take();
+            try {
+                result.addAll(future.get());
+            } catch (ExecutionException e) {
+                if (!(e.getCause() instanceof ChunkImportException chunkFailure)) throw new IllegalStateException("Chunk failed unexpectedly", e.getCause());
+                failures.add(chunkFailure);
+            }
+        }
+        if (!failures.isEmpty()) {
+            failures.sort(Comparator.comparingInt(ChunkImportException::getChunkIndex));
+            throw new ParallelImportException(failures, futures.size());
+        }
+        return result;
+    }
+
+    void cancel() {
+        futures.forEach(future -> future.cancel(true));
+    }
+}
@@ -0,0 +1,36 @@
+package org.trupt.utils;
+
+// Running statistics of the numeric cells written to one column, collected while the data rows are written
+class ColumnAggregate {
+    private int firstRowNum = -1;
+    private int lastRowNum = -1;
+    private double sum;
+    private long count;
+
+    void add(int rowNum, double value) {
+        if (firstRowNum == -1) firstRowNum = rowNum;
+        lastRowNum = rowNum;
+        sum += value;
+        count++;
+    }
+
+    boolean isEmpty() {
+        return count == 0;
+    }
+
+    int getFirstRowNum() {
+        return firstRowNum;
+    }
+
+    int getLastRowNum() {
+        return lastRowNum;
+    }
+
+    double getSum() {
+        return sum;
+    }
+
+    double getAverage() {
+        return sum / count;
+    }
+}
@@ -0,0 +1,87 @@
+package org.trupt.utils;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.trupt.annotation.ExcelCellHeader;
+import org.trupt.config.ColumnWidthStrategy;
+import org.trupt.schema.ColumnSchema;
+import org.trupt.schema.HeaderPlan;
+import org.trupt.schema.RowSchema;
+
+// Tracks the widest value of each column while rows are written and sets every column width once at the end.
+// Numbers are measured by counting digits, so sizing never creates a String.
+class ColumnWidthTracker {
+    private static final int MAX_WIDTH = 255 * 256;
+    private final HeaderPlan headerPlan;
+    private final ColumnSchema[] columns;
+    private final int[] lengths; // widest value in characters, -1 for columns that are not measured
+    private final boolean[] grouped;
+    private final int[] formatLengths;
+    private final long sampleRows;
+    private long measuredRows;
+
+    ColumnWidthTracker(RowSchema<?> schema, HeaderPlan headerPlan, ColumnWidthStrategy strategy, int sampleRows) {
+        this.headerPlan = headerPlan;
+        this.columns = schema.getColumns().toArray(new ColumnSchema[0]);
+        this.lengths = new int[columns.length];
+        this.grouped = new boolean[columns.length];
+        this.formatLengths = new int[columns.length];
+        for (ColumnSchema column : columns) {
+            ExcelCellHeader header = column.getHeader();
+            lengths[column.getIndex()] = strategy == ColumnWidthStrategy.FIXED || header.width() > 0 ? -1 : 0;
+            grouped[column.getIndex()] = header.format().contains(",");
+            formatLengths[column.getIndex()] = header.format().length();
+        }
+        this.sampleRows = switch (strategy) {
+            case FIXED -> 0;
+            case MAX_LENGTH -> Long.MAX_VALUE;
+            case SAMPLE -> sampleRows;
+        };
+    }
+
+    // Called once per data row, tells whether its values are measured
+    boolean nextRow() {
+        if (measuredRows == sampleRows) return false;
+        measuredRows++;
+        return true;
+    }
+
+    void measure(int column, int length) {
+        if (length > lengths[column] && lengths[column] >= 0) lengths[column] = length;
+    }
+
+    void measure(int column, Number value) {
+        if (lengths[column] >= 0) measure(column, numberLength(value, grouped[column]));
+    }
+
+    // Dates of a formatted column are about as wide as their format, e.g. yyyy-mm-dd
+    void measureFormatted(int column) {
+        measure(column, formatLengths[column]);
+    }
+
+    void apply(Sheet sheet) {
+        for (ColumnSchema column : columns) {
+            int width = headerPlan.getInitialWidth(column);
+            int length = lengths[column.getIndex()];
+            if (length >= 0) width = Math.max(width, (length + 2) * 256);
+            sheet.setColumnWidth(column.getIndex(), Math.min(width, MAX_WIDTH));
+        }
+    }
+
+    // Approximates the General (or grouped) display of the numeric cell: whole numbers show their digits, fractions
+    // are sized for two decimals, very large magnitudes switch to scientific notation
+    static int numberLength(Number value, boolean grouped) {
+        double numericValue = value.doubleValue();
+        if (!Double.isFinite(numericValue)) return 0; // Left blank
+        if (Math.abs(numericValue) >= 1e15) return 11;
+        long whole = (long) numericValue;
+        int length = integerLength(whole, grouped);
+        if (numericValue == whole) return length;
+        return length + (whole == 0 && numericValue < 0 ? 1 : 0) + 3;
+    }
+
+    private static int integerLength(long value, boolean grouped) {
+        int digits = 1;
+        for (long rest = value / 10; rest != 0; rest /= 10) digits++;
+        return digits + (value < 0 ? 1 : 0) + (grouped ? (digits - 1) / 3 : 0);
+    }
+}
@@ -0,0 +1,132 @@
+package org.trupt.utils;
+
+import org.apache.logging.log4j.Logger;
+import org.trupt.annotation.ExcelCellHeader;
+import org.trupt.config.Log4j2Config;
+import org.trupt.handler.StringTypeHandler;
+import org.trupt.metrics.OperationMetrics;
+import org.trupt.io.CsvWriter;
+import org.trupt.schema.ColumnSchema;
+import org.trupt.schema.HeaderPlan;
+import org.trupt.schema.RowSchema;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+// Delimited counterpart of SheetWriter. There are no formulas in a flat file, so the SUM and AVERAGE rows
+// carry the computed values.
+class CsvSheetWriter {
+    private static final Logger logger = Log4j2Config.getLogger(CsvSheetWriter.class);
+    private final CsvWriter csvWriter;
+    private final RowSchema<?> schema;
+    private final HeaderPlan headerPlan;
+    private final ColumnAggregate[] aggregates;
+    private final OperationMetrics metrics;
+    private int nextRowNum = 0;
+
+    CsvSheetWriter(CsvWriter csvWriter, RowSchema<?> schema, HeaderPlan headerPlan, OperationMetrics metrics) {
+        this.csvWriter = csvWriter;
+        this.schema = schema;
+        this.headerPlan = headerPlan;
+        this.aggregates = new ColumnAggregate[schema.size()];
+        this.metrics = metrics;
+        for (ColumnSchema column : schema.getColumns()) {
+            ExcelCellHeader header = column.getHeader();
+            if (header.calculateSum() || header.calculateAverage()) aggregates[column.getIndex()] = new ColumnAggregate();
+        }
+    }
+
+    void writeHeaderRow() throws IOException {
+        for (ColumnSchema columnSchema : schema.getColumns())
+            csvWriter.writeField(headerPlan.getHeaderName(columnSchema), false);
+        csvWriter.endRecord();
+        nextRowNum++;
+    }
+
+    void writeDataRows(Iterable<?> beans) throws IOException {
+        for (Object bean : beans) writeDataRow(bean);
+    }
+
+    void writeDataRow(Object bean) throws IOException {
+        int rowNum = nextRowNum++;
+        for (ColumnSchema column : schema.getColumns()) {
+            int cellIndex = column.getIndex();
+            String cellValue = null;
+            boolean numeric = false;
+            try {
+                Object value = column.get(bean);
+                if (value instanceof Double || value instanceof Float) {
+                    double numericValue = ((Number) value).doubleValue();
+                    cellValue = StringTypeHandler.formatNumber(numericValue);
+                    numeric = true;
+                    if (aggregates[cellIndex] != null && Double.isFinite(numericValue)) aggregates[cellIndex].add(rowNum, numericValue);
+                } else if (value instanceof Number number) {
+                    cellValue = number instanceof BigDecimal decimal ? decimal.toPlainString() : number.toString();
+                    numeric = true;
+                    if (aggregates[cellIndex] != null) aggregates[cellIndex].add(rowNum, number.doubleValue());
+                } else if (value != null) {
+                    cellValue = value.toString();
+                }
+            } catch (Exception e) {
+                metrics.conversionFailed(column.getName(), rowNum, e);
+                logger.error("[ERROR] An error occurred while setting field value: " + Arrays.toString(e.getStackTrace()));
+            }
+            csvWriter.writeField(cellValue, numeric);
+        }
+        csvWriter.endRecord();
+    }
+
+    // Same layout as the workbook footer: the label in the first column, the values under their columns.
+    // A blank line separates it from the data, so importing the file back stops before the footer.
+    void writeStatisticRows() throws IOException {
+        String[] sumCells = statisticCells(headerPlan.getSumRowName(), true);
+        String[] avgCells = statisticCells(headerPlan.getAvgRowName(), false);
+        if (sumCells == null && avgCells == null) return;
+
+        csvWriter.endRecord();
+        nextRowNum++;
+        writeStatisticRow(sumCells);
+        writeStatisticRow(avgCells);
+    }
+
+    // Returns null when no column has this statistic
+    private String[] statisticCells(String label, boolean sum) {
+        String[] cells = new String[schema.size()];
+        boolean hasValues = false;
+        for (ColumnSchema columnSchema : schema.getColumns()) {
+            ExcelCellHeader column = columnSchema.getHeader();
+            if (sum ? !column.calculateSum() : !column.calculateAverage()) continue;
+            hasValues = true;
+
+            ColumnAggregate aggregate = aggregates[columnSchema.getIndex()];
+            if (aggregate.isEmpty()) {
+                logger.error("[ERROR] No data found in column '{}'.", column.headerName());
+                continue;
+            }
+            cells[columnSchema.getIndex()] = StringTypeHandler.formatNumber(sum ? aggregate.getSum() : aggregate.getAverage());
+        }
+        if (!hasValues) return null;
+
+        // As in the workbook, a value of the first column takes the place of the label
+        if (cells[0] == null) cells[0] = label;
+        return cells;
+    }
+
+    private void writeStatisticRow(String[] cells) throws IOException {
+        if (cells == null) return;
+        for (int i = 0; i < cells.length; i++) csvWriter.writeField(cells[i], i > 0 || isNumber(cells[i]));
+        csvWriter.endRecord();
+        nextRowNum++;
+    }
+
+    private static boolean isNumber(String value) {
+        if (value == null) return false;
+        try {
+            Double.parseDouble(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package org.trupt.utils;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.trupt.config.ExportOptions;
+import org.trupt.config.FileFormat;
+import org.trupt.config.Log4j2Config;
+import org.trupt.io.CsvWriter;
+import org.trupt.metrics.OperationMetrics;
+import org.trupt.metrics.Phase;
+import org.trupt.schema.HeaderPlan;
+import org.trupt.schema.RowSchema;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.util.List;
+import java.util.Locale;
+
+// Export fed in batches, e.g. page by page from a database cursor. Rows are streamed as they are appended, so only the
+// row window of the current sheet stays on the heap. The SUM and AVERAGE rows and the column widths are written at close.
+// Workbooks continue on Sheet2, Sheet3, ... once a sheet is full; every sheet gets its own footer.
+// Not thread-safe. The caller owns the output stream; it is flushed but not closed.
+public class ExportSession<Type> implements Closeable {
+    private static final Logger logger = Log4j2Config.getLogger(ExportSession.class);
+    private final ExportOptions exportOptions;
+    private final RowSchema<Type> schema;
+    private final HeaderPlan headerPlan;
+    private final OutputStream outputStream;
+    private final OperationMetrics metrics;
+    private SXSSFWorkbook workbook;
+    private StyleRegistry styleRegistry;
+    private SheetWriter sheetWriter;
+    private int sheetCount;
+    private int sheetRowCount;
+    private CsvWriter csvWriter;
+    private CsvSheetWriter csvSheetWriter;
+    private long rowCount;
+    private boolean closed;
+    private boolean failed;
+
+    ExportSession(ExportOptions exportOptions, Class<Type> type, Locale locale, OutputStream outputStream, OperationMetrics metrics) {
+        this.exportOptions = exportOptions;
+        this.schema = RowSchema.of(type);
+        this.outputStream = outputStream;
+        this.metrics = metrics;
+        long phaseStart = metrics.startPhase();
+        this.headerPlan = exportOptions.getHeaderPlanCache().get(schema, locale);
+
+        FileFormat fileFormat = exportOptions.getFileFormat();
+        try {
+            if (fileFormat.isDelimited()) {
+                csvWriter = new CsvWriter(Channels.newChannel(outputStream), exportOptions.getCsvOptions(), exportOptions.getCsvOptions().getDelimiter(fileFormat));
+                csvSheetWriter = new CsvSheetWriter(csvWriter, schema, headerPlan, metrics);
+                csvSheetWriter.writeHeaderRow();
+                metrics.bufferedRows(1);
+            } else {
+                workbook = SharedStringsWorkbook.create(exportOptions.getRowAccessWindowSize(), exportOptions.isCompressTempFiles(), schema);
+                styleRegistry = new StyleRegistry(workbook);
+                startSheet();
+            }
+        } catch (IOException | RuntimeException e) {
+            fail();
+            logger.error("[ERROR] An error occurred while opening the export session: ", e);
+            throw new RuntimeException("Error exporting file", e);
+        }
+        metrics.endPhase(Phase.HEADER_RESOLUTION, phaseStart);
+    }
+
+    public void append(List<? extends Type> rows) {
+        if (closed) throw new IllegalStateException("Export session is closed.");
+        if (rows == null) {
+            logger.error("[ERROR] The provided list is null.");
+            throw new IllegalArgumentException("List cannot be null.");
+        }
+
+        long phaseStart = metrics.startPhase();
+        try {
+            if (csvSheetWriter != null) {
+                csvSheetWriter.writeDataRows(rows);
+            } else {
+                for (Type row : rows) {
+                    if (sheetRowCount == ExporterUtil.MAX_DATA_ROWS_PER_SHEET) {
+                        finishSheet();
+                        startSheet();
+                    }
+                    sheetWriter.writeDataRow(row);
+                    sheetRowCount++;
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            fail();
+            logger.error("[ERROR] An error occurred while appending rows to the export: ", e);
+            throw new RuntimeException("Error exporting file", e);
+        }
+        rowCount += rows.size();
+        metrics.endPhase(Phase.ROW_MAPPING, phaseStart);
+    }
+
+    // Data rows appended so far
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    // Writes the footers and the file. After a failed append it only releases the session.
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        if (failed) return;
+
+        long phaseStart = metrics.startPhase();
+        boolean succeeded = false;
+        try {
+            if (csvSheetWriter != null) {
+                csvSheetWriter.writeStatisticRows();
+                phaseStart = metrics.endPhase(Phase.AGGREGATE_FOOTER, phaseStart);
+                csvWriter.finish();
+                outputStream.flush();
+                metrics.setBytes(csvWriter.getBytesWritten());
+            } else {
+                finishSheet();
+                phaseStart = metrics.endPhase(Phase.AGGREGATE_FOOTER, phaseStart);
+                ExporterUtil.writeWorkbook(workbook, outputStream, metrics);
+            }
+            metrics.endPhase(Phase.SERIALIZATION, phaseStart);
+            metrics.setRowCount(rowCount);
+            succeeded = true;
+        } catch (IOException e) {
+            logger.error("Error writing {} file to output stream: ", exportOptions.getFileFormat(), e);
+            throw new RuntimeException("Error exporting file", e);
+        } finally {
+            release();
+            metrics.finish(succeeded);
+        }
+    }
+
+    private void startSheet() {
+        sheetWriter = new SheetWriter(workbook.createSheet("Sheet" + ++sheetCount), schema, headerPlan, styleRegistry, exportOptions, metrics);
+        sheetWriter.writeHeaderRow();
+        sheetRowCount = 0;
+        metrics.bufferedRows(exportOptions.getRowAccessWindowSize());
+    }
+
+    private void finishSheet() {
+        sheetWriter.writeStatisticRows();
+        sheetWriter.applyColumnWidths();
+    }
+
+    private void fail() {
+        failed = true;
+        closed = true;
+        release();
+        metrics.finish(false);
+    }
+
+    private void release() {
+        if (workbook == null) return;
+        // Closing also removes the temporary sheet files backing the flushed rows
+        try {
+            workbook.close();
+        } catch (IOException e) {
+            logger.error("[ERROR] An error occurred while closing the workbook: ", e);
+        }
+    }
+}
@@ -1,112 +1,92 @@
 package org.trupt.utils;
 
 import org.apache.logging.log4j.Logger;
-import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.ss.util.CellReference;
-import org.apache.poi.xssf.usermodel.*;
-import org.trupt.annotation.ExcelCellHeader;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.trupt.config.ExportOptions;
+import org.trupt.config.FileFormat;
 import org.trupt.config.Log4j2Config;
+import org.trupt.io.CsvWriter;
+import org.trupt.metrics.Operation;
+import org.trupt.metrics.OperationMetrics;
+import org.trupt.metrics.Phase;
+import org.trupt.schema.HeaderPlan;
+import org.trupt.schema.RowSchema;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.lang.reflect.Field;
-import java.util.Arrays;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
-import java.util.ResourceBundle;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
 
 public class ExporterUtil {
+    // Leaves room for the header row and the SUM and AVERAGE rows
+    public static final int MAX_DATA_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL2007.getMaxRows() - 3;
     private static final Logger logger = Log4j2Config.getLogger(ExporterUtil.class);
+    private final ExportOptions exportOptions;
+
+    public ExporterUtil() {
+        this(ExportOptions.defaults());
+    }
+
+    public ExporterUtil(ExportOptions exportOptions) {
+        if (exportOptions == null) throw new IllegalArgumentException("Export options cannot be null.");
+        this.exportOptions = exportOptions;
+    }
 
     public ByteArrayInputStream exportFile(List<?> list, Locale locale) {
         if (list.isEmpty()) {
             logger.error("[ERROR] The provided list is empty.");
             throw new IllegalArgumentException("List cannot be empty.");
         }
+        if (exportOptions.getFileFormat().isDelimited()) {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            exportDelimited(list, locale, Channels.newChannel(byteArrayOutputStream), Operation.EXPORT);
+            return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
+        }
 
+        OperationMetrics metrics = startMetrics(Operation.EXPORT, list.get(0).getClass());
+        boolean succeeded = false;
         try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream()) {
-            ResourceBundle resourceBundle = ResourceBundle.getBundle("Bundle", locale);
+            long phaseStart = metrics.startPhase();
+            RowSchema<?> schema = RowSchema.of(list.get(0).getClass());
+            HeaderPlan headerPlan = exportOptions.getHeaderPlanCache().get(schema, locale);
             XSSFSheet sheet = workbook.createSheet("Sheet1");
-            XSSFRow headerRow = sheet.createRow(0);
-
-            Class<?> clazz = list.get(0).getClass();
-            Field[] fields = clazz.getDeclaredFields();
-
-            int headerCellNo = 0;
-            for (Field field : fields) {
-                if (field.isAnnotationPresent(ExcelCellHeader.class)) {
-                    ExcelCellHeader column = field.getAnnotation(ExcelCellHeader.class);
-                    XSSFCell cell = headerRow.createCell(headerCellNo);
-                    cell.setCellValue(resourceBundle.getString(column.headerName()));
-                    makeRowBoldAndYellow(workbook, headerRow);
-
-                    // Set initial column width based on header cell value
-                    sheet.setColumnWidth(headerCellNo, (resourceBundle.getString(column.headerName()).length() + 2) * 256);
-                    headerCellNo++;
-                }
-            }
-
-            int dataCellNo = 1;
-            for (Object obj : list) {
-                XSSFRow dataRow = sheet.createRow(dataCellNo++);
-                int cellIndex = 0;
-                for (Field field : fields) {
-                    if (field.isAnnotationPresent(ExcelCellHeader.class)) {
-                        try {
-                            field.setAccessible(true); // This allows us to bypass private and protected modifiers
-                            Object value = field.get(obj);
-                            XSSFCell cell = dataRow.createCell(cellIndex);
-
-                            if (value != null) {
-                                String cellValue;
-                                if (value instanceof Number) {
-                                    cell.setCellValue(((Number) value).doubleValue());
-                                    cellValue = String.valueOf(((Number) value).doubleValue());
-                                } else {
-                                    cell.setCellValue(value.toString());
-                                    cellValue = value.toString();
-                                }
-
-                                // Adjust column width based on cell value
-                                int columnWidth = cellValue.length();
-                                int currentWidth = sheet.getColumnWidth(cellIndex) / 256;
-                                if (columnWidth + 2 > currentWidth) {
-                                    sheet.setColumnWidth(cellIndex, (columnWidth + 2) * 256);
-                                }
-                            }
-                        } catch (Exception e) {
-                            field.setAccessible(false);
-                            logger.error("[ERROR] An error occurred while setting field value: " + Arrays.toString(e.getStackTrace()));
-                        } finally {
-                            field.setAccessible(false);
-                        }
-                        cellIndex++;
-                    }
-                }
-            }
 
+            SheetWriter sheetWriter = new SheetWriter(sheet, schema, headerPlan, new StyleRegistry(workbook), exportOptions, metrics);
+            sheetWriter.writeHeaderRow();
+            phaseStart = metrics.endPhase(Phase.HEADER_RESOLUTION, phaseStart);
+            sheetWriter.writeDataRows(list);
+            phaseStart = metrics.endPhase(Phase.ROW_MAPPING, phaseStart);
             // Create rows for SUM and AVERAGE calculations
-            int sumRowNum = sheet.getLastRowNum() + 1;
-            XSSFRow sumRow = sheet.createRow(sumRowNum);
-
-            int avgRowNum = sheet.getLastRowNum() + 1;
-            XSSFRow avgRow = sheet.createRow(avgRowNum);
-
-            for (Field field : fields) {
-                if (field.isAnnotationPresent(ExcelCellHeader.class)) {
-                    ExcelCellHeader column = field.getAnnotation(ExcelCellHeader.class);
-                    if (column.calculateSum()) {
-                        String sumHeader = resourceBundle.getString(column.headerName());
-                        calculateStatistic(sheet, sumHeader, resourceBundle.getString("sumRowName"), "SUM", workbook, sumRow);
-                    }
-                    if (column.calculateAverage()) {
-                        String avgHeader = resourceBundle.getString(column.headerName());
-                        calculateStatistic(sheet, avgHeader, resourceBundle.getString("avgRowName"), "AVERAGEA", workbook, avgRow);
-                    }
-                }
-            }
+            sheetWriter.writeStatisticRows();
+            sheetWriter.applyColumnWidths();
+            phaseStart = metrics.endPhase(Phase.AGGREGATE_FOOTER, phaseStart);
+
             workbook.write(byteArrayOutputStream);
+            metrics.endPhase(Phase.SERIALIZATION, phaseStart);
+            metrics.setRowCount(list.size());
+            metrics.setBytes(byteArrayOutputStream.size());
+            // The whole sheet stays on the heap until it is written
+            metrics.bufferedRows(sheet.getPhysicalNumberOfRows());
+            succeeded = true;
             return new ByteArrayInputStream(byteArrayOutputStream.toByteArray());
         } catch (IOException e) {
             logger.error("Error writing workbook to output stream: ", e);
@@ -114,123 +94,298 @@ public class ExporterUtil {
         } catch (IllegalArgumentException e) {
             logger.error("Invalid argument error: ", e);
             throw new RuntimeException("Error exporting file", e);
+        } finally {
+            metrics.finish(succeeded);
         }
     }
 
-    private void makeRowBoldAndYellow(Workbook workbook, Row row) {
-        CellStyle cellStyle = workbook.createCellStyle();
-        Font font = workbook.createFont();
-        font.setBold(true);
+    // Streams the sheet through a sliding row window, so only the last few rows are kept on the heap.
+    // The caller owns the output stream; it is flushed but not closed.
+    public void exportFile(List<?> list, Locale locale, OutputStream outputStream) {
+        if (list.isEmpty()) {
+            logger.error("[ERROR] The provided list is empty.");
+            throw new IllegalArgumentException("List cannot be empty.");
+        }
+        if (outputStream == null) {
+            logger.error("[ERROR] The provided output stream is null.");
+            throw new IllegalArgumentException("Output stream cannot be null.");
+        }
+        if (exportOptions.getFileFormat().isDelimited()) {
+            exportDelimited(list, locale, Channels.newChannel(outputStream), Operation.EXPORT_STREAMING);
+            flush(outputStream);
+            return;
+        }
+
+        RowSchema<?> schema = RowSchema.of(list.get(0).getClass());
+        OperationMetrics metrics = startMetrics(Operation.EXPORT_STREAMING, schema.getType());
+        boolean succeeded = false;
+        // Closing the workbook also removes the temporary sheet files backing the flushed rows
+        try (SXSSFWorkbook workbook = SharedStringsWorkbook.create(exportOptions.getRowAccessWindowSize(), exportOptions.isCompressTempFiles(), schema)) {
+            long phaseStart = metrics.startPhase();
+            HeaderPlan headerPlan = exportOptions.getHeaderPlanCache().get(schema, locale);
+            SXSSFSheet sheet = workbook.createSheet("Sheet1");
 
-        cellStyle.setFont(font);
-        cellStyle.setFillForegroundColor(IndexedColors.YELLOW1.getIndex());
-        cellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+            SheetWriter sheetWriter = new SheetWriter(sheet, schema, headerPlan, new StyleRegistry(workbook), exportOptions, metrics);
+            sheetWriter.writeHeaderRow();
+            phaseStart = metrics.endPhase(Phase.HEADER_RESOLUTION, phaseStart);
+            sheetWriter.writeDataRows(list);
+            phaseStart = metrics.endPhase(Phase.ROW_MAPPING, phaseStart);
+            sheetWriter.writeStatisticRows();
+            sheetWriter.applyColumnWidths();
+            phaseStart = metrics.endPhase(Phase.AGGREGATE_FOOTER, phaseStart);
+
+            // Read before writing, the flushed rows are gone afterwards
+            metrics.bufferedRows(Math.min(exportOptions.getRowAccessWindowSize(), sheet.getLastRowNum() + 1));
+            writeWorkbook(workbook, outputStream, metrics);
+            metrics.endPhase(Phase.SERIALIZATION, phaseStart);
+            metrics.setRowCount(list.size());
+            succeeded = true;
+        } catch (IOException e) {
+            logger.error("Error writing workbook to output stream: ", e);
+            throw new RuntimeException("Error exporting file", e);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid argument error: ", e);
+            throw new RuntimeException("Error exporting file", e);
+        } finally {
+            metrics.finish(succeeded);
+        }
+    }
 
-        for (int i = 0; i < row.getLastCellNum(); i++) {
-            row.getCell(i).setCellStyle(cellStyle);
+    public void exportFile(List<?> list, Locale locale, WritableByteChannel channel) {
+        if (channel == null) {
+            logger.error("[ERROR] The provided channel is null.");
+            throw new IllegalArgumentException("Channel cannot be null.");
         }
+        if (exportOptions.getFileFormat().isDelimited()) {
+            if (list.isEmpty()) {
+                logger.error("[ERROR] The provided list is empty.");
+                throw new IllegalArgumentException("List cannot be empty.");
+            }
+            exportDelimited(list, locale, channel, Operation.EXPORT_STREAMING);
+            return;
+        }
+        // Not closed here, closing the adapter would close the caller's channel
+        exportFile(list, locale, Channels.newOutputStream(channel));
     }
 
-    private void makeCellBoldAndYellow(Workbook workbook, Cell cell) {
-        CellStyle cellStyle = workbook.createCellStyle();
-        Font font = workbook.createFont();
-        font.setBold(true);
+    // CSV and TSV exports skip the workbook entirely and encode the rows straight into the channel
+    private void exportDelimited(List<?> list, Locale locale, WritableByteChannel channel, Operation operation) {
+        FileFormat fileFormat = exportOptions.getFileFormat();
+        OperationMetrics metrics = startMetrics(operation, list.get(0).getClass());
+        boolean succeeded = false;
+        try {
+            long phaseStart = metrics.startPhase();
+            RowSchema<?> schema = RowSchema.of(list.get(0).getClass());
+            HeaderPlan headerPlan = exportOptions.getHeaderPlanCache().get(schema, locale);
+            CsvWriter csvWriter = new CsvWriter(channel, exportOptions.getCsvOptions(), exportOptions.getCsvOptions().getDelimiter(fileFormat));
+
+            CsvSheetWriter sheetWriter = new CsvSheetWriter(csvWriter, schema, headerPlan, metrics);
+            sheetWriter.writeHeaderRow();
+            phaseStart = metrics.endPhase(Phase.HEADER_RESOLUTION, phaseStart);
+            sheetWriter.writeDataRows(list);
+            phaseStart = metrics.endPhase(Phase.ROW_MAPPING, phaseStart);
+            sheetWriter.writeStatisticRows();
+            phaseStart = metrics.endPhase(Phase.AGGREGATE_FOOTER, phaseStart);
+            csvWriter.finish();
+            metrics.endPhase(Phase.SERIALIZATION, phaseStart);
+            metrics.setRowCount(list.size());
+            metrics.setBytes(csvWriter.getBytesWritten());
+            // Rows are encoded as they are written, nothing but the encoder buffer is held
+            metrics.bufferedRows(1);
+            succeeded = true;
+        } catch (IOException e) {
+            logger.error("Error writing {} file to output stream: ", fileFormat, e);
+            throw new RuntimeException("Error exporting file", e);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid argument error: ", e);
+            throw new RuntimeException("Error exporting file", e);
+        } finally {
+            metrics.finish(succeeded);
+        }
+    }
 
-        cellStyle.setFont(font);
-        cellStyle.setFillForegroundColor(IndexedColors.YELLOW1.getIndex());
-        cellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
-        cell.setCellStyle(cellStyle);
+    private OperationMetrics startMetrics(Operation operation, Class<?> type) {
+        return OperationMetrics.start(exportOptions.getMetricsListener(), operation, exportOptions.getFileFormat(), type);
     }
 
-    private int findTargetCellNum(XSSFRow headerRow, String cellHeader) {
-        int targetCellNum = 0;
+    // Counts the package bytes only when someone listens
+    static void writeWorkbook(SXSSFWorkbook workbook, OutputStream outputStream, OperationMetrics metrics) throws IOException {
+        if (!metrics.isEnabled()) {
+            workbook.write(outputStream);
+            outputStream.flush();
+            return;
+        }
+        CountingOutputStream countingOutputStream = new CountingOutputStream(outputStream);
+        workbook.write(countingOutputStream);
+        countingOutputStream.flush();
+        metrics.setBytes(countingOutputStream.getCount());
+    }
+
+    private void flush(OutputStream outputStream) {
         try {
-            for (int cellNum = 0; cellNum < headerRow.getLastCellNum(); cellNum++) {
-                XSSFCell cell = headerRow.getCell(cellNum);
-                if (cell != null && cell.getCellType() == CellType.STRING && cell.getStringCellValue().equals(cellHeader)) {
-                    targetCellNum = cellNum;
-                    break;
-                }
-            }
-            return targetCellNum;
-        } catch (Exception e) {
-            logger.error("[INFO] An error occurred: ", e);
-            return -1;
+            outputStream.flush();
+        } catch (IOException e) {
+            logger.error("Error writing {} file to output stream: ", exportOptions.getFileFormat(), e);
+            throw new RuntimeException("Error exporting file", e);
         }
     }
 
-    private boolean isNonEmptyNumericCell(XSSFRow row, int targetCellNum) {
-        if (row != null) {
-            XSSFCell cell = row.getCell(targetCellNum);
-            return ((cell != null) && (cell.getCellType() != CellType.BLANK) && (cell.getCellType() == CellType.NUMERIC));
+    public void exportFilePartitioned(List<?> list, Locale locale, OutputStream outputStream) {
+        exportFilePartitioned(list, locale, outputStream, MAX_DATA_ROWS_PER_SHEET);
+    }
+
+    // Splits the list into sheets of at most maxRowsPerSheet rows, named Sheet1, Sheet2, ...
+    public void exportFilePartitioned(List<?> list, Locale locale, OutputStream outputStream, int maxRowsPerSheet) {
+        validatePartitionedExport(list, outputStream, maxRowsPerSheet);
+
+        List<SheetPartition> partitions = new ArrayList<>();
+        for (int from = 0; from < list.size(); from += maxRowsPerSheet) {
+            int to = Math.min(from + maxRowsPerSheet, list.size());
+            partitions.add(new SheetPartition("Sheet" + (partitions.size() + 1), list.subList(from, to)));
         }
-        return false;
+        writePartitions(RowSchema.of(list.get(0).getClass()), partitions, locale, outputStream);
     }
 
-    private int firstNonEmptyCellNo(XSSFSheet sheet, int targetCellNum) {
-        int firstDataRow = -1;
-        for (int rowNum = 1; rowNum <= sheet.getLastRowNum(); rowNum++) {
-            XSSFRow row = sheet.getRow(rowNum);
-            if (isNonEmptyNumericCell(row, targetCellNum)) {
-                firstDataRow = rowNum + 1;
-                break;
+    // Writes one sheet per grouping key, in order of first appearance. Groups above the sheet row limit continue on further sheets.
+    public <Type> void exportFilePartitioned(List<Type> list, Locale locale, OutputStream outputStream, Function<? super Type, ?> groupingKey) {
+        validatePartitionedExport(list, outputStream, MAX_DATA_ROWS_PER_SHEET);
+        if (groupingKey == null) {
+            logger.error("[ERROR] The provided grouping key is null.");
+            throw new IllegalArgumentException("Grouping key cannot be null.");
+        }
+
+        Map<Object, List<Type>> groups = new LinkedHashMap<>();
+        for (Type item : list) groups.computeIfAbsent(groupingKey.apply(item), key -> new ArrayList<>()).add(item);
+
+        Set<String> sheetNames = new HashSet<>();
+        List<SheetPartition> partitions = new ArrayList<>();
+        for (Map.Entry<Object, List<Type>> group : groups.entrySet()) {
+            List<Type> rows = group.getValue();
+            for (int from = 0; from < rows.size(); from += MAX_DATA_ROWS_PER_SHEET) {
+                int to = Math.min(from + MAX_DATA_ROWS_PER_SHEET, rows.size());
+                partitions.add(new SheetPartition(uniqueSheetName(String.valueOf(group.getKey()), sheetNames), rows.subList(from, to)));
             }
         }
-        return firstDataRow;
+        writePartitions(RowSchema.of(list.get(0).getClass()), partitions, locale, outputStream);
     }
 
-    private int lastNonEmptyCellNo(XSSFSheet sheet, int targetCellNum) {
-        int lastDataRow = -1;
-        for (int rowNum = sheet.getLastRowNum(); rowNum >= 1; rowNum--) {
-            XSSFRow row = sheet.getRow(rowNum);
-            if (isNonEmptyNumericCell(row, targetCellNum)) {
-                lastDataRow = rowNum + 1;
-                break;
-            }
+    // Opens an export that is fed in batches through ExportSession.append and written when the session is closed
+    public <Type> ExportSession<Type> openSession(Class<Type> type, Locale locale, OutputStream outputStream) {
+        if (type == null) {
+            logger.error("[ERROR] The provided type is null.");
+            throw new IllegalArgumentException("Type cannot be null.");
+        }
+        if (outputStream == null) {
+            logger.error("[ERROR] The provided output stream is null.");
+            throw new IllegalArgumentException("Output stream cannot be null.");
         }
-        return lastDataRow;
+        return new ExportSession<>(exportOptions, type, locale, outputStream, startMetrics(Operation.EXPORT_SESSION, type));
     }
 
-    private void processCellHeaders(XSSFSheet sheet, XSSFRow headerRow, XSSFRow targetRow, String cellHeader, String formulaType) throws Exception {
-        try {
-            int targetCellNum = findTargetCellNum(headerRow, cellHeader);
-            int firstDataRow = firstNonEmptyCellNo(sheet, targetCellNum); // Find the first non-empty cell in the column
-            int lastDataRow = lastNonEmptyCellNo(sheet, targetCellNum); // Find the last non-empty cell in the column
+    private void validatePartitionedExport(List<?> list, OutputStream outputStream, int maxRowsPerSheet) {
+        if (exportOptions.getFileFormat().isDelimited()) {
+            logger.error("[ERROR] Partitioned export is not supported for {} files.", exportOptions.getFileFormat());
+            throw new IllegalArgumentException("Partitioned export is only supported for XLSX files.");
+        }
+        if (list.isEmpty()) {
+            logger.error("[ERROR] The provided list is empty.");
+            throw new IllegalArgumentException("List cannot be empty.");
+        }
+        if (outputStream == null) {
+            logger.error("[ERROR] The provided output stream is null.");
+            throw new IllegalArgumentException("Output stream cannot be null.");
+        }
+        if (maxRowsPerSheet < 1 || maxRowsPerSheet > MAX_DATA_ROWS_PER_SHEET) {
+            logger.error("[ERROR] Invalid number of rows per sheet: {}", maxRowsPerSheet);
+            throw new IllegalArgumentException("Rows per sheet must be between 1 and " + MAX_DATA_ROWS_PER_SHEET + ".");
+        }
+    }
+
+    // Sheet names are unique ignoring case and limited to 31 characters
+    private String uniqueSheetName(String name, Set<String> sheetNames) {
+        String safeName = WorkbookUtil.createSafeSheetName(name);
+        String candidate = safeName;
+        for (int suffixNo = 2; !sheetNames.add(candidate.toLowerCase(Locale.ROOT)); suffixNo++) {
+            String suffix = " (" + suffixNo + ")";
+            candidate = safeName.substring(0, Math.min(safeName.length(), 31 - suffix.length())) + suffix;
+        }
+        return candidate;
+    }
+
+    private void writePartitions(RowSchema<?> schema, List<SheetPartition> partitions, Locale locale, OutputStream outputStream) {
+        OperationMetrics metrics = startMetrics(Operation.EXPORT_PARTITIONED, schema.getType());
+        boolean succeeded = false;
+        // The executor is closed first and waits for the partition tasks, then the workbook removes its temp files
+        try (SXSSFWorkbook workbook = SharedStringsWorkbook.create(exportOptions.getRowAccessWindowSize(), exportOptions.isCompressTempFiles(), schema);
+             ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            long phaseStart = metrics.startPhase();
+            HeaderPlan headerPlan = exportOptions.getHeaderPlanCache().get(schema, locale);
+            StyleRegistry styleRegistry = new StyleRegistry(workbook);
 
-            if (firstDataRow == -1 || lastDataRow == -1) {
-                throw new Exception("No data found in column '" + cellHeader + "'.");
+            // Sheets and styles live in workbook-wide structures, so they are all created up front on this thread
+            List<SheetWriter> sheetWriters = new ArrayList<>();
+            for (SheetPartition partition : partitions) {
+                SheetWriter sheetWriter = new SheetWriter(workbook.createSheet(partition.sheetName()), schema, headerPlan, styleRegistry, exportOptions, metrics);
+                sheetWriter.writeHeaderRow();
+                sheetWriters.add(sheetWriter);
             }
+            phaseStart = metrics.endPhase(Phase.HEADER_RESOLUTION, phaseStart);
 
-            XSSFCell formulaCell = targetRow.createCell(targetCellNum);
-            formulaCell.setCellFormula(formulaType + "(" + CellReference.convertNumToColString(targetCellNum)
-                    + firstDataRow + ":" + CellReference.convertNumToColString(targetCellNum) + lastDataRow + ")");
+            List<Future<?>> futures = new ArrayList<>();
+            // Each task only touches its own sheet, whose flushed rows go to a sheet-specific temp file
+            for (int i = 0; i < partitions.size(); i++) {
+                SheetWriter sheetWriter = sheetWriters.get(i);
+                List<?> rows = partitions.get(i).rows();
+                futures.add(executor.submit(() -> sheetWriter.writeDataRows(rows)));
+            }
+            awaitPartitions(futures);
+            phaseStart = metrics.endPhase(Phase.ROW_MAPPING, phaseStart);
+
+            for (SheetWriter sheetWriter : sheetWriters) {
+                sheetWriter.writeStatisticRows();
+                sheetWriter.applyColumnWidths();
+            }
+            phaseStart = metrics.endPhase(Phase.AGGREGATE_FOOTER, phaseStart);
+            writeWorkbook(workbook, outputStream, metrics);
+            metrics.endPhase(Phase.SERIALIZATION, phaseStart);
+
+            // Every sheet keeps its own row window
+            long rowCount = 0;
+            long bufferedRows = 0;
+            for (SheetPartition partition : partitions) {
+                rowCount += partition.rows().size();
+                bufferedRows += Math.min(exportOptions.getRowAccessWindowSize(), partition.rows().size() + 3);
+            }
+            metrics.setRowCount(rowCount);
+            metrics.bufferedRows(bufferedRows);
+            succeeded = true;
+        } catch (ExecutionException e) {
+            logger.error("[ERROR] An error occurred while writing a sheet partition: ", e.getCause());
+            throw new RuntimeException("Error exporting file", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Export was interrupted", e);
+        } catch (IOException e) {
+            logger.error("Error writing workbook to output stream: ", e);
+            throw new RuntimeException("Error exporting file", e);
         } catch (IllegalArgumentException e) {
-            logger.error("[ERROR] Invalid argument for cell header processing: ", e);
-            throw new RuntimeException("Error processing cell headers", e);
-        } catch (ReflectiveOperationException e) {
-            logger.error(" [ERROR] Reflection error during cell header processing: ", e);
-            throw new RuntimeException("Error processing cell headers", e);
+            logger.error("Invalid argument error: ", e);
+            throw new RuntimeException("Error exporting file", e);
+        } finally {
+            metrics.finish(succeeded);
         }
     }
 
-    private void calculateStatistic(XSSFSheet sheet, String cellHeader, String label, String formula, Workbook workbook, XSSFRow targetRow) {
+    // Cancels the remaining partitions on the first failure, before the executor waits for them
+    private void awaitPartitions(List<Future<?>> futures) throws ExecutionException, InterruptedException {
         try {
-            // Add label only once in the first cell of the statistics row
-            if (targetRow.getCell(0) == null) {
-                targetRow.createCell(0).setCellValue(label);
-                makeCellBoldAndYellow(workbook, targetRow.getCell(0));
-
-                int columnWidth = targetRow.getCell(0).getStringCellValue().length();
-                int currentWidth = sheet.getColumnWidth(0) / 256;
-                if (columnWidth + 2 > currentWidth) {
-                    sheet.setColumnWidth(0, (columnWidth + 2) * 256);
-                }
-            }
-
-            XSSFRow headerRow = sheet.getRow(0); // Assuming the first row is the header row
-            processCellHeaders(sheet, headerRow, targetRow, cellHeader, formula);
-        } catch (Exception e) {
-            logger.error("[ERROR] An error occurred while setting field value: " + Arrays.toString(e.getStackTrace()));
+            for (Future<?> future : futures) future.get();
+        } catch (ExecutionException | InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
         }
     }
-}
\ No newline at end of file
+
+    private record SheetPartition(String sheetName, List<?> rows) {
+    }
+}
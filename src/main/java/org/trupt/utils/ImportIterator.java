@@ -0,0 +1,109 @@
+package org.trupt.utils;
+
+import org.apache.logging.log4j.Logger;
+import org.trupt.config.Log4j2Config;
+import org.trupt.io.RowSource;
+import org.trupt.io.SourceRow;
+import org.trupt.metrics.OperationMetrics;
+import org.trupt.metrics.Phase;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Lazily maps one row per next() call. The underlying file is released once the data rows are exhausted
+// or when the iterator is closed, whichever comes first.
+public class ImportIterator<Type> implements Iterator<Type>, Closeable {
+    private static final Logger logger = Log4j2Config.getLogger(ImportIterator.class);
+    private final RowSource rowSource;
+    private final RowMapper<Type> rowMapper;
+    private final OperationMetrics metrics;
+    private SourceRow nextRow;
+    private boolean closed;
+    private boolean failed;
+    private long rowCount;
+    private int lastRowNum = -1;
+
+    ImportIterator(RowSource rowSource, RowMapper<Type> rowMapper, OperationMetrics metrics) {
+        this.rowSource = rowSource;
+        this.rowMapper = rowMapper;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (nextRow != null) return true;
+        if (closed) return false;
+        try {
+            long phaseStart = metrics.startPhase();
+            SourceRow row = rowSource.nextRow();
+            metrics.endPhase(Phase.PARSE, phaseStart);
+            if (row == null || row.isEmpty()) {
+                close();
+                return false;
+            }
+            nextRow = row;
+            return true;
+        } catch (IOException e) {
+            failed = true;
+            logger.error("[ERROR] An error occurred while reading the file: ", e);
+            throw new UncheckedIOException("Error reading the file", e);
+        }
+    }
+
+    @Override
+    public Type next() {
+        if (!hasNext()) throw new NoSuchElementException();
+        SourceRow row = nextRow;
+        nextRow = null;
+        lastRowNum = row.getRowNum();
+        long phaseStart = metrics.startPhase();
+        Type instance;
+        try {
+            instance = rowMapper.map(row);
+        } catch (RuntimeException e) {
+            failed = true;
+            throw e;
+        }
+        metrics.endPhase(Phase.ROW_MAPPING, phaseStart);
+        rowCount++;
+        return instance;
+    }
+
+    // Number of rows mapped so far
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    // Zero-based sheet row index of the row returned last, -1 before the first
+    public int getLastRowNum() {
+        return lastRowNum;
+    }
+
+    // Reads past the rows up to and including lastRowNum without mapping them, to resume after a checkpoint
+    void skipThrough(int lastRowNum) {
+        while (hasNext() && nextRow.getRowNum() <= lastRowNum) nextRow = null;
+    }
+
+    OperationMetrics getMetrics() {
+        return metrics;
+    }
+
+    // Closing before the last row is not a failure, the summary then covers the rows mapped so far
+    @Override
+    public void close() {
+        if (closed) return;
+        closed = true;
+        nextRow = null;
+        metrics.setRowCount(rowCount);
+        metrics.finish(!failed);
+        try {
+            rowSource.close();
+        } catch (IOException e) {
+            logger.error("[ERROR] An error occurred while closing the file: ", e);
+            throw new UncheckedIOException("Error closing the file", e);
+        }
+    }
+}
@@ -2,23 +2,84 @@ package org.trupt.utils;
 
 import org.apache.logging.log4j.Logger;
 import org.apache.poi.ss.usermodel.*;
-import org.trupt.annotation.ExcelCellHeader;
+import org.trupt.checkpoint.Checkpoint;
+import org.trupt.checkpoint.CheckpointStore;
+import org.trupt.checkpoint.SourceIdentity;
+import org.trupt.columnar.ColumnarTable;
+import org.trupt.columnar.ColumnarTableBuilder;
+import org.trupt.config.CsvOptions;
+import org.trupt.config.FileFormat;
+import org.trupt.config.LenientImportOptions;
 import org.trupt.config.Log4j2Config;
+import org.trupt.config.ParallelImportOptions;
+import org.trupt.exception.CheckpointException;
+import org.trupt.exception.ParallelImportException;
+import org.trupt.handler.CellSetter;
+import org.trupt.handler.SourceCell;
 import org.trupt.handler.TypeHandler;
 import org.trupt.handler.TypeHandlerStorage;
+import org.trupt.io.CsvRowSource;
+import org.trupt.io.PoiSourceRow;
+import org.trupt.io.RowSource;
+import org.trupt.io.SourceRow;
+import org.trupt.io.SourceRowSnapshot;
+import org.trupt.io.XlsxEventRowSource;
+import org.trupt.metrics.JfrMetricsListener;
+import org.trupt.metrics.MetricsListener;
+import org.trupt.metrics.Operation;
+import org.trupt.metrics.OperationMetrics;
+import org.trupt.metrics.Phase;
+import org.trupt.report.ImportError;
+import org.trupt.report.ImportReport;
+import org.trupt.schema.ColumnSchema;
+import org.trupt.schema.HeaderBinding;
+import org.trupt.schema.RowSchema;
 
 import java.io.File;
 import java.io.IOException;
-import java.lang.reflect.Field;
-import java.lang.reflect.InvocationTargetException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 public class ImporterUtil {
     private static final Logger logger = Log4j2Config.getLogger(ImporterUtil.class);
-    private final TypeHandlerStorage typeHandlerStorage = new TypeHandlerStorage();
+    private final TypeHandlerStorage typeHandlerStorage;
+    private final CsvOptions csvOptions;
+    private final MetricsListener metricsListener;
+
+    public ImporterUtil() {
+        this(new TypeHandlerStorage());
+    }
+
+    // Custom handlers are registered on the storage, e.g. new TypeHandlerStorage().register(Money.class, handler)
+    public ImporterUtil(TypeHandlerStorage typeHandlerStorage) {
+        this(typeHandlerStorage, CsvOptions.defaults());
+    }
+
+    // The CSV options apply to .csv and .tsv files, which every import method accepts besides workbooks
+    public ImporterUtil(TypeHandlerStorage typeHandlerStorage, CsvOptions csvOptions) {
+        this(typeHandlerStorage, csvOptions, new JfrMetricsListener());
+    }
+
+    // Imports report to JFR events by default, MetricsListener.NONE turns the instrumentation off
+    public ImporterUtil(TypeHandlerStorage typeHandlerStorage, CsvOptions csvOptions, MetricsListener metricsListener) {
+        if (typeHandlerStorage == null) throw new IllegalArgumentException("Type handler storage cannot be null.");
+        if (csvOptions == null) throw new IllegalArgumentException("CSV options cannot be null.");
+        if (metricsListener == null) throw new IllegalArgumentException("Metrics listener cannot be null.");
+        this.typeHandlerStorage = typeHandlerStorage;
+        this.csvOptions = csvOptions;
+        this.metricsListener = metricsListener;
+    }
 
     public <Type> List<Type> importFile(File file, Class<Type> type) {
         if (file == null) {
@@ -26,37 +87,35 @@ public class ImporterUtil {
             throw new IllegalArgumentException("File cannot be null.");
         }
 
+        // A flat file has no workbook to load
+        if (FileFormat.of(file).isDelimited()) return importFileStreaming(file, type);
+
+        RowSchema<Type> schema = RowSchema.of(type);
+        OperationMetrics metrics = startMetrics(Operation.IMPORT, file, type);
+        boolean succeeded = false;
+        long phaseStart = metrics.startPhase();
+
         try (Workbook workbook = WorkbookFactory.create(file)) {
             Sheet sheet = workbook.getSheetAt(0);
+            phaseStart = metrics.endPhase(Phase.PARSE, phaseStart);
             logger.info("[INFO] Starting to import file: {}", file.getAbsolutePath());
+            Row headerRow = sheet.getRow(0);
+            RowMapper<Type> rowMapper = createRowMapper(schema, headerRow == null ? null : new PoiSourceRow().wrap(headerRow), metrics);
+            phaseStart = metrics.endPhase(Phase.HEADER_RESOLUTION, phaseStart);
 
+            PoiSourceRow sourceRow = new PoiSourceRow();
             List<Type> result = StreamSupport.stream(sheet.spliterator(), false)
                     .skip(1) // Skip header
-                    .takeWhile(row -> !isRowEmpty(row))
-                    .map(row -> {
-                        try {
-                            Type instance = type.getDeclaredConstructor().newInstance();
-                            populateUserFromRow(instance, row, sheet);
-                            return instance;
-                        } catch (InstantiationException e) {
-                            logger.error("[ERROR] Error creating an instance of {}: ", type.getSimpleName(), e);
-                            throw new RuntimeException("Error creating an instance of " + type.getSimpleName(), e);
-                        } catch (IllegalAccessException e) {
-                            logger.error("[ERROR] Illegal access while creating an instance of {}: ", type.getSimpleName(), e);
-                            throw new RuntimeException("Illegal access while creating an instance of " + type.getSimpleName(), e);
-                        } catch (NoSuchMethodException e) {
-                            logger.error("[ERROR] No suitable constructor for {}: ", type.getSimpleName(), e);
-                            throw new RuntimeException("No suitable constructor for " + type.getSimpleName(), e);
-                        } catch (InvocationTargetException e) {
-                            logger.error("[ERROR] Error invoking constructor for {}: ", type.getSimpleName(), e);
-                            throw new RuntimeException("Error invoking constructor for " + type.getSimpleName(), e);
-                        } catch (Exception e) {
-                            logger.error("[ERROR] An unexpected error occurred while processing row: ", e);
-                            throw new RuntimeException("Unexpected error occurred while processing row", e);
-                        }
-                    })
+                    .map(sourceRow::wrap)
+                    .takeWhile(row -> !row.isEmpty())
+                    .map(rowMapper::map)
                     .filter(Objects::nonNull)
                     .collect(Collectors.toList());
+            metrics.endPhase(Phase.ROW_MAPPING, phaseStart);
+            metrics.setRowCount(result.size());
+            // The whole workbook is loaded before the first row is mapped
+            metrics.bufferedRows(sheet.getPhysicalNumberOfRows());
+            succeeded = true;
             logger.info("[INFO] Finished importing file: {}, imported {} rows", file.getAbsolutePath(), result.size());
             return result;
         } catch (IOException e) {
@@ -65,56 +124,416 @@ public class ImporterUtil {
         } catch (Exception e) {
             logger.error("[ERROR] An error occurred while processing the file: ", e);
             throw new RuntimeException("Unexpected error occurred while processing the file", e);
+        } finally {
+            metrics.finish(succeeded);
+        }
+    }
+
+    // Streams the first sheet through the OOXML event reader instead of loading the workbook DOM.
+    // Supports .xlsx, .csv and .tsv files; rows are mapped as they are parsed.
+    public <Type> List<Type> importFileStreaming(File file, Class<Type> type) {
+        try (ImportIterator<Type> iterator = iterateFile(file, type, Operation.IMPORT_STREAMING)) {
+            List<Type> result = new ArrayList<>();
+            iterator.forEachRemaining(result::add);
+            logger.info("[INFO] Finished importing file: {}, imported {} rows", file.getAbsolutePath(), result.size());
+            return result;
+        } catch (UncheckedIOException e) {
+            throw new RuntimeException("Error reading the file", e.getCause());
+        } catch (RuntimeException e) {
+            logger.error("[ERROR] An error occurred while processing the file: ", e);
+            throw new RuntimeException("Unexpected error occurred while processing the file", e);
+        }
+    }
+
+    // Hands the imported rows to the consumer in batches of at most batchSize, so only one batch is alive at a time.
+    // Returns the number of imported rows.
+    public <Type> long importFile(File file, Class<Type> type, int batchSize, Consumer<List<Type>> batchConsumer) {
+        return importBatches(file, type, batchSize, batchConsumer, null);
+    }
+
+    // Resumable variant: the last row of every batch the consumer returns from is saved as the checkpoint, and a later call
+    // with the same store skips the rows up to it. The checkpoint is cleared once the whole file is imported.
+    // A crash between the consumer's commit and the checkpoint save hands that batch over again.
+    // Returns the number of rows imported by this call.
+    public <Type> long importFile(File file, Class<Type> type, int batchSize, Consumer<List<Type>> batchConsumer, CheckpointStore checkpointStore) {
+        if (checkpointStore == null) {
+            logger.error("[ERROR] Checkpoint store is null.");
+            throw new IllegalArgumentException("Checkpoint store cannot be null.");
+        }
+        return importBatches(file, type, batchSize, batchConsumer, checkpointStore);
+    }
+
+    private <Type> long importBatches(File file, Class<Type> type, int batchSize, Consumer<List<Type>> batchConsumer, CheckpointStore checkpointStore) {
+        if (batchSize < 1) {
+            logger.error("[ERROR] Batch size must be positive: {}", batchSize);
+            throw new IllegalArgumentException("Batch size must be positive.");
+        }
+        if (batchConsumer == null) {
+            logger.error("[ERROR] Batch consumer is null.");
+            throw new IllegalArgumentException("Batch consumer cannot be null.");
+        }
+        SourceIdentity source = checkpointStore == null ? null : identify(file);
+        Checkpoint checkpoint = checkpointStore == null ? null : loadCheckpoint(checkpointStore, source);
+
+        try (ImportIterator<Type> iterator = iterateFile(file, type, Operation.IMPORT_BATCHED)) {
+            long committedRows = 0;
+            if (checkpoint != null) {
+                logger.info("[INFO] Resuming import of file: {} after row {}", file.getAbsolutePath(), checkpoint.getLastRowNum() + 1);
+                iterator.skipThrough(checkpoint.getLastRowNum());
+                committedRows = checkpoint.getRowCount();
+            }
+
+            List<Type> batch = new ArrayList<>(batchSize);
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize || !iterator.hasNext()) {
+                    iterator.getMetrics().bufferedRows(batch.size());
+                    batchConsumer.accept(batch);
+                    committedRows += batch.size();
+                    if (checkpointStore != null) saveCheckpoint(checkpointStore, new Checkpoint(source, iterator.getLastRowNum(), committedRows));
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (checkpointStore != null) clearCheckpoint(checkpointStore);
+            logger.info("[INFO] Finished importing file: {}, imported {} rows", file.getAbsolutePath(), iterator.getRowCount());
+            return iterator.getRowCount();
+        } catch (UncheckedIOException e) {
+            throw new RuntimeException("Error reading the file", e.getCause());
+        }
+    }
+
+    private SourceIdentity identify(File file) {
+        try {
+            return SourceIdentity.of(file);
+        } catch (IOException e) {
+            logger.error("[ERROR] An error occurred while reading the file: ", e);
+            throw new RuntimeException("Error reading the file", e);
+        }
+    }
+
+    // A checkpoint of another file, or of an earlier version of this one, is discarded and the import starts over
+    private Checkpoint loadCheckpoint(CheckpointStore checkpointStore, SourceIdentity source) {
+        Checkpoint checkpoint;
+        try {
+            checkpoint = checkpointStore.load();
+        } catch (IOException e) {
+            logger.error("[ERROR] An error occurred while loading the checkpoint: ", e);
+            throw new CheckpointException("Error loading the checkpoint", e);
+        }
+        if (checkpoint == null || checkpoint.getSource().equals(source)) return checkpoint;
+        logger.info("[INFO] Discarding checkpoint {}, the file {} changed since it was saved", checkpoint, source);
+        clearCheckpoint(checkpointStore);
+        return null;
+    }
+
+    private void saveCheckpoint(CheckpointStore checkpointStore, Checkpoint checkpoint) {
+        try {
+            checkpointStore.save(checkpoint);
+        } catch (IOException e) {
+            logger.error("[ERROR] An error occurred while saving the checkpoint: ", e);
+            throw new CheckpointException("Error saving the checkpoint", e);
+        }
+    }
+
+    private void clearCheckpoint(CheckpointStore checkpointStore) {
+        try {
+            checkpointStore.clear();
+        } catch (IOException e) {
+            logger.error("[ERROR] An error occurred while clearing the checkpoint: ", e);
+            throw new CheckpointException("Error clearing the checkpoint", e);
+        }
+    }
+
+    // Imports every valid row of an .xlsx, .csv or .tsv file in one pass, collecting an error per bad cell instead of stopping
+    // at the first one. Rows with errors are left out of the result and copied to the quarantine workbook, if the options have one.
+    // A header row that does not match the class still fails the import right away.
+    public <Type> ImportReport<Type> importFileLenient(File file, Class<Type> type, LenientImportOptions options) {
+        if (file == null) {
+            logger.error("[ERROR] File is null.");
+            throw new IllegalArgumentException("File cannot be null.");
+        }
+        if (options == null) {
+            logger.error("[ERROR] Lenient import options are null.");
+            throw new IllegalArgumentException("Lenient import options cannot be null.");
+        }
+
+        RowSchema<Type> schema = RowSchema.of(type);
+        OperationMetrics metrics = startMetrics(Operation.IMPORT_LENIENT, file, type);
+        boolean succeeded = false;
+        QuarantineWriter quarantine = null;
+        long phaseStart = metrics.startPhase();
+
+        try (RowSource rowSource = openRowSource(file)) {
+            phaseStart = metrics.endPhase(Phase.PARSE, phaseStart);
+            logger.info("[INFO] Starting lenient import of file: {}", file.getAbsolutePath());
+            SourceRow headerRow = rowSource.nextRow();
+            RowMapper<Type> rowMapper = createRowMapper(schema, headerRow, metrics);
+            if (options.getQuarantineOutput() != null) quarantine = new QuarantineWriter(headerRow, options.getRowAccessWindowSize());
+            metrics.endPhase(Phase.HEADER_RESOLUTION, phaseStart);
+
+            List<Type> rows = new ArrayList<>();
+            List<ImportError> errors = new ArrayList<>();
+            List<ImportError> rowErrors = new ArrayList<>();
+            long errorCount = 0;
+            long rejectedRowCount = 0;
+            SourceRow row;
+            while ((row = nextDataRow(rowSource, metrics)) != null) {
+                phaseStart = metrics.startPhase();
+                Type instance = rowMapper.mapLenient(row, rowErrors);
+                metrics.endPhase(Phase.ROW_MAPPING, phaseStart);
+                if (rowErrors.isEmpty()) {
+                    rows.add(instance);
+                    continue;
+                }
+
+                rejectedRowCount++;
+                errorCount += rowErrors.size();
+                for (ImportError error : rowErrors) if (errors.size() < options.getMaxErrors()) errors.add(error);
+                if (quarantine != null) quarantine.write(row, rowErrors);
+                rowErrors.clear();
+            }
+            if (quarantine != null) writeQuarantine(quarantine, options.getQuarantineOutput());
+
+            metrics.setRowCount(rows.size());
+            metrics.bufferedRows(rows.size());
+            succeeded = true;
+            ImportReport<Type> report = new ImportReport<>(rows, errors, errorCount, rejectedRowCount);
+            logger.info("[INFO] Finished importing file: {}, imported {} rows, rejected {} rows with {} errors",
+                    file.getAbsolutePath(), rows.size(), rejectedRowCount, errorCount);
+            return report;
+        } catch (IOException e) {
+            logger.error("[ERROR] An error occurred while reading the file: ", e);
+            throw new RuntimeException("Error reading the file", e);
+        } catch (Exception e) {
+            logger.error("[ERROR] An error occurred while processing the file: ", e);
+            throw new RuntimeException("Unexpected error occurred while processing the file", e);
+        } finally {
+            if (quarantine != null) quarantine.close();
+            metrics.finish(succeeded);
+        }
+    }
+
+    private void writeQuarantine(QuarantineWriter quarantine, OutputStream outputStream) {
+        try {
+            quarantine.finish(outputStream);
+            logger.info("[INFO] Wrote {} rejected rows to the quarantine workbook", quarantine.getRowCount());
+        } catch (IOException e) {
+            logger.error("[ERROR] An error occurred while writing the quarantine workbook: ", e);
+            throw new RuntimeException("Error writing the quarantine workbook", e);
+        }
+    }
+
+    // Imports the first sheet of an .xlsx, .csv or .tsv file into one array per column instead of one bean per row.
+    // Meant for aggregation jobs that never need the beans; int, double, String and LocalDate fields get compact columns.
+    public ColumnarTable importFileColumnar(File file, Class<?> type) {
+        if (file == null) {
+            logger.error("[ERROR] File is null.");
+            throw new IllegalArgumentException("File cannot be null.");
+        }
+
+        RowSchema<?> schema = RowSchema.of(type);
+        OperationMetrics metrics = startMetrics(Operation.IMPORT_COLUMNAR, file, type);
+        boolean succeeded = false;
+        long phaseStart = metrics.startPhase();
+        try (RowSource rowSource = openRowSource(file)) {
+            phaseStart = metrics.endPhase(Phase.PARSE, phaseStart);
+            logger.info("[INFO] Starting to import file into columns: {}", file.getAbsolutePath());
+            ColumnarTableBuilder builder = new ColumnarTableBuilder(schema, bindHeader(schema, rowSource.nextRow()), typeHandlerStorage, metrics);
+            metrics.endPhase(Phase.HEADER_RESOLUTION, phaseStart);
+            SourceRow row;
+            while ((row = nextDataRow(rowSource, metrics)) != null) {
+                phaseStart = metrics.startPhase();
+                builder.append(row);
+                metrics.endPhase(Phase.ROW_MAPPING, phaseStart);
+            }
+            metrics.setRowCount(builder.getRowCount());
+            metrics.bufferedRows(builder.getRowCount());
+            succeeded = true;
+            logger.info("[INFO] Finished importing file: {}, imported {} rows", file.getAbsolutePath(), builder.getRowCount());
+            return builder.build();
+        } catch (IOException e) {
+            logger.error("[ERROR] An error occurred while reading the file: ", e);
+            throw new RuntimeException("Error reading the file", e);
+        } catch (Exception e) {
+            logger.error("[ERROR] An error occurred while processing the file: ", e);
+            throw new RuntimeException("Unexpected error occurred while processing the file", e);
+        } finally {
+            metrics.finish(succeeded);
         }
     }
 
-    private boolean isRowEmpty(Row row) {
-        for (Cell cell : row)
-            if (cell.getCellType() != CellType.BLANK) return false;
-        return true;
-    }
-
-    private int getColumnIndexByName(Sheet sheet, String colName) {
-        Row headerRow = sheet.getRow(0);
-        for (Cell cell : headerRow)
-            if (cell.getStringCellValue().equalsIgnoreCase(colName)) return cell.getColumnIndex();
-        throw new IllegalArgumentException("Column " + colName + " not found");
-    }
-
-    private void setFieldValue(Field field, Object instance, Cell cell) throws IllegalAccessException {
-        TypeHandler handler = typeHandlerStorage.getHandler(field.getType());
-        if (handler == null) throw new IllegalArgumentException("Unsupported field type: " + field.getType());
-        handler.handle(field, instance, cell);
-    }
-
-    private <Type> void populateUserFromRow(Type instance, Row row, Sheet sheet) {
-        Field[] fields = instance.getClass().getDeclaredFields();
-        for (Field field : fields) {
-            if (field.isAnnotationPresent(ExcelCellHeader.class)) {
-                ExcelCellHeader header = field.getAnnotation(ExcelCellHeader.class);
-                int columnIndex = getColumnIndexByName(sheet, header.headerName());
-
-                Cell cell = row.getCell(columnIndex);
-                try {
-                    if (cell == null && header.isRequired()) {
-                        throw new IllegalArgumentException(header.headerName() + " column is required, cannot have NULL/BLANK values!");
-                    } else if (cell != null) {
-                        field.setAccessible(true);
-                        setFieldValue(field, instance, cell);
-                    }
-                } catch (IllegalArgumentException e) {
-                    logger.error("[ERROR] Required field missing: {}", header.headerName(), e);
-                    throw e;
-                } catch (IllegalAccessException e) {
-                    logger.error("[ERROR] Illegal access while setting field value for field {}: ", field.getName(), e);
-                    throw new RuntimeException("Error accessing field " + field.getName(), e);
-                } catch (Exception e) {
-                    logger.error("[ERROR] An unexpected error occurred while setting field value for field {}: ", field.getName(), e);
-                    throw new RuntimeException("Unexpected error occurred while setting field value", e);
-                } finally {
-                    field.setAccessible(false);
+    // Converts the rows of an .xlsx, .csv or .tsv file in chunks on several threads. Parsing stays on the calling thread,
+    // which detaches each row from the reader's buffer before handing its chunk over.
+    public <Type> List<Type> importFileParallel(File file, Class<Type> type, ParallelImportOptions options) {
+        if (file == null) {
+            logger.error("[ERROR] File is null.");
+            throw new IllegalArgumentException("File cannot be null.");
+        }
+        if (options == null) {
+            logger.error("[ERROR] Parallel import options are null.");
+            throw new IllegalArgumentException("Parallel import options cannot be null.");
+        }
+
+        RowSchema<Type> schema = RowSchema.of(type);
+        ExecutorService ownedExecutor = options.getExecutor() == null ? Executors.newVirtualThreadPerTaskExecutor() : null;
+        ExecutorService executor = ownedExecutor != null ? ownedExecutor : options.getExecutor();
+        ChunkedImport<Type> chunkedImport = null;
+        OperationMetrics metrics = startMetrics(Operation.IMPORT_PARALLEL, file, type);
+        boolean succeeded = false;
+        long phaseStart = metrics.startPhase();
+
+        try (RowSource rowSource = openRowSource(file)) {
+            phaseStart = metrics.endPhase(Phase.PARSE, phaseStart);
+            logger.info("[INFO] Starting to import file in parallel: {}", file.getAbsolutePath());
+            RowMapper<Type> rowMapper = createRowMapper(schema, rowSource.nextRow(), metrics);
+            metrics.endPhase(Phase.HEADER_RESOLUTION, phaseStart);
+            chunkedImport = new ChunkedImport<>(rowMapper, executor, options.isOrdered(), options.getMaxChunksInFlight(), metrics);
+
+            List<SourceRow> chunk = new ArrayList<>(options.getChunkSize());
+            SourceRow row;
+            while ((row = nextDataRow(rowSource, metrics)) != null) {
+                chunk.add(SourceRowSnapshot.copyOf(row));
+                if (chunk.size() == options.getChunkSize()) {
+                    chunkedImport.submit(chunk);
+                    chunk = new ArrayList<>(options.getChunkSize());
                 }
             }
+            if (!chunk.isEmpty()) chunkedImport.submit(chunk);
+
+            List<Type> result = chunkedImport.collect();
+            metrics.setRowCount(result.size());
+            succeeded = true;
+            logger.info("[INFO] Finished importing file: {}, imported {} rows", file.getAbsolutePath(), result.size());
+            return result;
+        } catch (ParallelImportException e) {
+            logger.error("[ERROR] {}", e.getMessage());
+            throw e;
+        } catch (InterruptedException e) {
+            if (chunkedImport != null) chunkedImport.cancel();
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Import was interrupted", e);
+        } catch (IOException e) {
+            if (chunkedImport != null) chunkedImport.cancel();
+            logger.error("[ERROR] An error occurred while reading the file: ", e);
+            throw new RuntimeException("Error reading the file", e);
+        } catch (Exception e) {
+            if (chunkedImport != null) chunkedImport.cancel();
+            logger.error("[ERROR] An error occurred while processing the file: ", e);
+            throw new RuntimeException("Unexpected error occurred while processing the file", e);
+        } finally {
+            if (ownedExecutor != null) ownedExecutor.close();
+            metrics.finish(succeeded);
+        }
+    }
+
+    // Lazily imports the first sheet of an .xlsx, .csv or .tsv file. The stream holds the file open and must be closed by the caller.
+    public <Type> Stream<Type> streamFile(File file, Class<Type> type) {
+        ImportIterator<Type> iterator = iterateFile(file, type);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    // Lazily imports the first sheet of an .xlsx, .csv or .tsv file, one row per next() call. The iterator must be closed by the caller.
+    public <Type> ImportIterator<Type> iterateFile(File file, Class<Type> type) {
+        return iterateFile(file, type, Operation.IMPORT_STREAMING);
+    }
+
+    private <Type> ImportIterator<Type> iterateFile(File file, Class<Type> type, Operation operation) {
+        if (file == null) {
+            logger.error("[ERROR] File is null.");
+            throw new IllegalArgumentException("File cannot be null.");
+        }
+
+        RowSchema<Type> schema = RowSchema.of(type);
+        OperationMetrics metrics = startMetrics(operation, file, type);
+        RowSource rowSource = null;
+        try {
+            long phaseStart = metrics.startPhase();
+            rowSource = openRowSource(file);
+            phaseStart = metrics.endPhase(Phase.PARSE, phaseStart);
+            logger.info("[INFO] Starting to stream import file: {}", file.getAbsolutePath());
+            RowMapper<Type> rowMapper = createRowMapper(schema, rowSource.nextRow(), metrics);
+            metrics.endPhase(Phase.HEADER_RESOLUTION, phaseStart);
+            // Rows are mapped one at a time straight from the reader
+            metrics.bufferedRows(1);
+            return new ImportIterator<>(rowSource, rowMapper, metrics);
+        } catch (IOException e) {
+            metrics.finish(false);
+            closeQuietly(rowSource);
+            logger.error("[ERROR] An error occurred while reading the file: ", e);
+            throw new RuntimeException("Error reading the file", e);
+        } catch (Exception e) {
+            metrics.finish(false);
+            closeQuietly(rowSource);
+            logger.error("[ERROR] An error occurred while processing the file: ", e);
+            throw new RuntimeException("Unexpected error occurred while processing the file", e);
+        }
+    }
+
+    // The file size stands in for the bytes read; a reader stopping at the first empty row reads less
+    private OperationMetrics startMetrics(Operation operation, File file, Class<?> type) {
+        OperationMetrics metrics = OperationMetrics.start(metricsListener, operation, FileFormat.of(file), type);
+        if (metrics.isEnabled()) metrics.setBytes(file.length());
+        return metrics;
+    }
+
+    // Returns null once the data rows end
+    private SourceRow nextDataRow(RowSource rowSource, OperationMetrics metrics) throws IOException {
+        long phaseStart = metrics.startPhase();
+        SourceRow row = rowSource.nextRow();
+        metrics.endPhase(Phase.PARSE, phaseStart);
+        return row == null || row.isEmpty() ? null : row;
+    }
+
+    private RowSource openRowSource(File file) throws IOException {
+        FileFormat fileFormat = FileFormat.of(file);
+        if (fileFormat.isDelimited()) return new CsvRowSource(file.toPath(), csvOptions, csvOptions.getDelimiter(fileFormat));
+        return new XlsxEventRowSource(file);
+    }
+
+    private void closeQuietly(RowSource rowSource) {
+        if (rowSource == null) return;
+        try {
+            rowSource.close();
+        } catch (IOException e) {
+            logger.error("[ERROR] An error occurred while closing the file: ", e);
+        }
+    }
+
+    private <Type> RowMapper<Type> createRowMapper(RowSchema<Type> schema, SourceRow headerRow, OperationMetrics metrics) {
+        return new RowMapper<>(schema, bindHeader(schema, headerRow), bindColumns(schema), metrics);
+    }
+
+    private HeaderBinding bindHeader(RowSchema<?> schema, SourceRow headerRow) {
+        List<String> headerCells = new ArrayList<>();
+        if (headerRow != null) {
+            for (int cellIndex = 0; cellIndex < headerRow.getCellCount(); cellIndex++) {
+                SourceCell cell = headerRow.getCell(cellIndex);
+                headerCells.add(cell != null && cell.getCellType() == CellType.STRING ? cell.getStringCellValue() : null);
+            }
+        }
+        try {
+            return HeaderBinding.bind(schema, headerCells);
+        } catch (IllegalArgumentException e) {
+            logger.error("[ERROR] {}", e.getMessage());
+            throw e;
+        }
+    }
+
+    // Handlers are looked up and bound once per import, a missing one only fails once a cell needs it
+    private CellSetter[] bindColumns(RowSchema<?> schema) {
+        CellSetter[] setters = new CellSetter[schema.size()];
+        for (ColumnSchema column : schema.getColumns()) {
+            TypeHandler handler = typeHandlerStorage.getHandler(column.getType());
+            if (handler == null) continue;
+            if (column.getHeader().lowCardinality() && column.getType() == String.class) {
+                // Repeated values share one String instance instead of one per cell
+                StringDictionary dictionary = new StringDictionary(column);
+                setters[column.getIndex()] = (bean, cell) -> column.set(bean, dictionary.canonicalize((String) handler.convert(cell)));
+            } else {
+                setters[column.getIndex()] = handler.bind(column);
+            }
         }
+        return setters;
     }
-}
\ No newline at end of file
+}
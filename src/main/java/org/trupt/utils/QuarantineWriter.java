@@ -0,0 +1,85 @@
+package org.trupt.utils;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.trupt.config.Log4j2Config;
+import org.trupt.handler.SourceCell;
+import org.trupt.io.SourceRow;
+import org.trupt.report.ImportError;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+
+// Streams the rejected rows of a lenient import into a workbook with the source header. Cells keep their values and
+// types, and two trailing columns give the source row number and the errors, so the sheet can be fixed and imported again.
+class QuarantineWriter {
+    private static final Logger logger = Log4j2Config.getLogger(QuarantineWriter.class);
+    static final String SOURCE_ROW_HEADER = "Source Row";
+    static final String ERRORS_HEADER = "Errors";
+    private final SXSSFWorkbook workbook;
+    private final SXSSFSheet sheet;
+    private final int columnCount;
+    private int nextRowNum = 0;
+
+    // Copies the header row right away, the reader reuses it for the next row
+    QuarantineWriter(SourceRow headerRow, int rowAccessWindowSize) {
+        this.workbook = new SXSSFWorkbook(null, rowAccessWindowSize, false);
+        this.sheet = workbook.createSheet("Rejected");
+        this.columnCount = headerRow.getCellCount();
+
+        CellStyle highlightStyle = new StyleRegistry(workbook).highlightStyle();
+        Row row = sheet.createRow(nextRowNum++);
+        copyCells(headerRow, row);
+        row.createCell(columnCount).setCellValue(SOURCE_ROW_HEADER);
+        row.createCell(columnCount + 1).setCellValue(ERRORS_HEADER);
+        for (Cell cell : row) cell.setCellStyle(highlightStyle);
+    }
+
+    // Cells beyond the header are left out, no column would read them
+    void write(SourceRow sourceRow, List<ImportError> rowErrors) {
+        Row row = sheet.createRow(nextRowNum++);
+        copyCells(sourceRow, row);
+        row.createCell(columnCount).setCellValue(sourceRow.getRowNum() + 1);
+        row.createCell(columnCount + 1).setCellValue(rowErrors.stream()
+                .map(error -> error.getColumn() + ": " + error.getReason())
+                .collect(Collectors.joining("; ")));
+    }
+
+    private void copyCells(SourceRow sourceRow, Row row) {
+        int cellCount = Math.min(sourceRow.getCellCount(), columnCount);
+        for (int cellIndex = 0; cellIndex < cellCount; cellIndex++) {
+            SourceCell sourceCell = sourceRow.getCell(cellIndex);
+            if (sourceCell == null) continue;
+            switch (sourceCell.getCellType()) {
+                case NUMERIC -> row.createCell(cellIndex).setCellValue(sourceCell.getNumericCellValue());
+                case BOOLEAN -> row.createCell(cellIndex).setCellValue(sourceCell.getBooleanCellValue());
+                case BLANK -> row.createCell(cellIndex);
+                default -> row.createCell(cellIndex).setCellValue(RowMapper.rawValue(sourceCell));
+            }
+        }
+    }
+
+    int getRowCount() {
+        return nextRowNum - 1;
+    }
+
+    void finish(OutputStream outputStream) throws IOException {
+        workbook.write(outputStream);
+        outputStream.flush();
+    }
+
+    // Removes the temporary sheet file, also when the import failed
+    void close() {
+        try {
+            workbook.close();
+        } catch (IOException e) {
+            logger.error("[ERROR] An error occurred while closing the quarantine workbook: ", e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.trupt.utils;
+
+import org.apache.logging.log4j.Logger;
+import org.trupt.annotation.ExcelCellHeader;
+import org.trupt.config.Log4j2Config;
+import org.trupt.handler.CellSetter;
+import org.trupt.handler.SourceCell;
+import org.trupt.handler.StringTypeHandler;
+import org.trupt.io.SourceRow;
+import org.trupt.metrics.OperationMetrics;
+import org.trupt.report.ImportError;
+import org.trupt.schema.ColumnSchema;
+import org.trupt.schema.HeaderBinding;
+import org.trupt.schema.RowSchema;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+
+// Maps data rows to beans; bound once per sheet and shared by every import mode
+class RowMapper<Type> {
+    private static final Logger logger = Log4j2Config.getLogger(RowMapper.class);
+    private final RowSchema<Type> schema;
+    private final HeaderBinding headerBinding;
+    private final CellSetter[] setters;
+    private final OperationMetrics metrics;
+
+    RowMapper(RowSchema<Type> schema, HeaderBinding headerBinding, CellSetter[] setters, OperationMetrics metrics) {
+        this.schema = schema;
+        this.headerBinding = headerBinding;
+        this.setters = setters;
+        this.metrics = metrics;
+    }
+
+    Type map(SourceRow row) {
+        return map(row, null);
+    }
+
+    // Converts every cell of the row instead of stopping at the first bad one. Adds an error per bad cell to rowErrors
+    // and returns null if there was any.
+    Type mapLenient(SourceRow row, List<ImportError> rowErrors) {
+        return map(row, rowErrors);
+    }
+
+    private Type map(SourceRow row, List<ImportError> rowErrors) {
+        String typeName = schema.getType().getSimpleName();
+        try {
+            Type instance = schema.newInstance();
+            if (rowErrors == null) {
+                populateFromRow(instance, row);
+                return instance;
+            }
+            return populateLenient(instance, row, rowErrors) ? instance : null;
+        } catch (InstantiationException e) {
+            logger.error("[ERROR] Error creating an instance of {}: ", typeName, e);
+            throw new RuntimeException("Error creating an instance of " + typeName, e);
+        } catch (IllegalAccessException e) {
+            logger.error("[ERROR] Illegal access while creating an instance of {}: ", typeName, e);
+            throw new RuntimeException("Illegal access while creating an instance of " + typeName, e);
+        } catch (NoSuchMethodException e) {
+            logger.error("[ERROR] No suitable constructor for {}: ", typeName, e);
+            throw new RuntimeException("No suitable constructor for " + typeName, e);
+        } catch (InvocationTargetException e) {
+            logger.error("[ERROR] Error invoking constructor for {}: ", typeName, e);
+            throw new RuntimeException("Error invoking constructor for " + typeName, e);
+        } catch (Exception e) {
+            logger.error("[ERROR] An unexpected error occurred while processing row: ", e);
+            throw new RuntimeException("Unexpected error occurred while processing row", e);
+        }
+    }
+
+    private void setFieldValue(ColumnSchema column, CellSetter setter, Object instance, SourceCell cell) {
+        if (setter == null) throw new IllegalArgumentException("Unsupported field type: " + column.getType());
+        setter.set(instance, cell);
+    }
+
+    private boolean populateLenient(Type instance, SourceRow row, List<ImportError> rowErrors) {
+        boolean valid = true;
+        for (ColumnSchema column : schema.getColumns()) {
+            ExcelCellHeader header = column.getHeader();
+            int columnIndex = headerBinding.getColumnIndex(column);
+            SourceCell cell = row.getCell(columnIndex);
+            try {
+                if (cell == null && header.isRequired()) {
+                    throw new IllegalArgumentException(header.headerName() + " column is required, cannot have NULL/BLANK values!");
+                } else if (cell != null) {
+                    setFieldValue(column, setters[column.getIndex()], instance, cell);
+                }
+            } catch (Exception e) {
+                metrics.conversionFailed(column.getName(), row.getRowNum(), e);
+                rowErrors.add(new ImportError(row.getRowNum(), columnIndex, header.headerName(), rawValue(cell), reason(e)));
+                valid = false;
+            }
+        }
+        return valid;
+    }
+
+    // Cell content as the user typed it, without the ".0" of whole numbers
+    static String rawValue(SourceCell cell) {
+        if (cell == null) return null;
+        return switch (cell.getCellType()) {
+            case STRING -> cell.getStringCellValue();
+            case NUMERIC -> StringTypeHandler.formatNumber(cell.getNumericCellValue());
+            case BOOLEAN -> String.valueOf(cell.getBooleanCellValue());
+            case BLANK -> "";
+            default -> cell.getCellType().name();
+        };
+    }
+
+    private static String reason(Throwable e) {
+        Throwable rootCause = e;
+        while (rootCause.getCause() != null && rootCause.getCause() != rootCause) rootCause = rootCause.getCause();
+        return rootCause.getMessage() != null ? rootCause.getMessage() : rootCause.getClass().getSimpleName();
+    }
+
+    private void populateFromRow(Type instance, SourceRow row) {
+        for (ColumnSchema column : schema.getColumns()) {
+            ExcelCellHeader header = column.getHeader();
+            SourceCell cell = row.getCell(headerBinding.getColumnIndex(column));
+            try {
+                if (cell == null && header.isRequired()) {
+                    throw new IllegalArgumentException(header.headerName() + " column is required, cannot have NULL/BLANK values!");
+                } else if (cell != null) {
+                    setFieldValue(column, setters[column.getIndex()], instance, cell);
+                }
+            } catch (IllegalArgumentException e) {
+                metrics.conversionFailed(column.getName(), row.getRowNum(), e);
+                logger.error("[ERROR] Required field missing: {}", header.headerName(), e);
+                throw e;
+            } catch (Exception e) {
+                metrics.conversionFailed(column.getName(), row.getRowNum(), e);
+                logger.error("[ERROR] An unexpected error occurred while setting field value for field {}: ", column.getName(), e);
+                throw new RuntimeException("Unexpected error occurred while setting field value", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package org.trupt.utils;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.streaming.SheetDataWriter;
+import org.apache.poi.xssf.usermodel.XSSFRichTextString;
+import org.trupt.config.Log4j2Config;
+import org.trupt.schema.ColumnSchema;
+import org.trupt.schema.RowSchema;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Streaming workbook that picks inline or shared strings per column. SXSSF otherwise writes every string either inline,
+// repeating it in each cell, or through the shared strings table, which keeps every distinct string of the workbook on
+// the heap. Here only the strings of low-cardinality columns are shared, as long as a column stays within its
+// lowCardinalityLimit distinct values and its values actually repeat; its values first seen after that are written inline.
+class SharedStringsWorkbook extends SXSSFWorkbook {
+    private static final Logger logger = Log4j2Config.getLogger(SharedStringsWorkbook.class);
+    // A column whose first values are mostly distinct is not low-cardinality whatever its marking, sharing them only
+    // grows the table. The ratio is checked once this many values have been seen.
+    static final int SAMPLE_VALUES = 100;
+    static final double MAX_DISTINCT_RATIO = 0.5;
+    private final RowSchema<?> schema;
+    // Indexed by column, null for the columns written inline
+    private final SharedColumn[] sharedColumns;
+    // Style of the header and footer labels, -1 until a sheet writer sets it
+    private volatile short labelStyleIndex = -1;
+
+    private SharedStringsWorkbook(int rowAccessWindowSize, boolean compressTmpFiles, RowSchema<?> schema) {
+        super(null, rowAccessWindowSize, compressTmpFiles, true);
+        this.schema = schema;
+        this.sharedColumns = new SharedColumn[schema.size()];
+        for (ColumnSchema column : schema.getColumns())
+            if (column.getHeader().lowCardinality()) sharedColumns[column.getIndex()] = new SharedColumn(StringDictionary.maxEntries(column));
+    }
+
+    // Plain inline-string workbook unless the schema has a low-cardinality column
+    static SXSSFWorkbook create(int rowAccessWindowSize, boolean compressTmpFiles, RowSchema<?> schema) {
+        boolean lowCardinality = schema.getColumns().stream().anyMatch(column -> column.getHeader().lowCardinality());
+        if (!lowCardinality) return new SXSSFWorkbook(null, rowAccessWindowSize, compressTmpFiles);
+        return new SharedStringsWorkbook(rowAccessWindowSize, compressTmpFiles, schema);
+    }
+
+    // Cells with this style are labels and always written inline, so only data values take a place in a column's table.
+    // Set before the first row of a sheet is written.
+    void setLabelStyle(CellStyle labelStyle) {
+        labelStyleIndex = labelStyle.getIndex();
+    }
+
+    @Override
+    protected SheetDataWriter createSheetDataWriter() throws IOException {
+        return new ColumnSheetDataWriter();
+    }
+
+    // Index of the value in the shared strings table, or -1 to write it inline. Called with the table locked.
+    // The table is only asked once per distinct value: adding an item serializes it to look it up, which costs more
+    // than writing the cell. Its reference count therefore counts distinct values, Excel does not check it.
+    private int sharedStringIndex(Cell cell, int columnIndex, String value) {
+        SharedColumn sharedColumn = columnIndex < sharedColumns.length ? sharedColumns[columnIndex] : null;
+        if (sharedColumn == null || cell.getCellStyle().getIndex() == labelStyleIndex) return -1;
+        sharedColumn.values++;
+        Integer index = sharedColumn.indexes.get(value);
+        if (index != null) return index;
+        if (sharedColumn.full) return -1;
+        if (sharedColumn.indexes.size() >= sharedColumn.maxEntries) {
+            sharedColumn.full = true;
+            logger.info("[INFO] Column {} has more than {} distinct values, writing its new values inline.",
+                    schema.getColumns().get(columnIndex).getName(), sharedColumn.maxEntries);
+            return -1;
+        }
+        if (sharedColumn.values >= SAMPLE_VALUES && sharedColumn.indexes.size() >= sharedColumn.values * MAX_DISTINCT_RATIO) {
+            sharedColumn.full = true;
+            logger.info("[INFO] Column {} has {} distinct values in its first {}, writing its new values inline.",
+                    schema.getColumns().get(columnIndex).getName(), sharedColumn.indexes.size(), sharedColumn.values);
+            return -1;
+        }
+        index = getSharedStringSource().addSharedStringItem(new XSSFRichTextString(value));
+        sharedColumn.indexes.put(value, index);
+        return index;
+    }
+
+    private static class SharedColumn {
+        private final int maxEntries;
+        private final Map<String, Integer> indexes = new HashMap<>();
+        // Values seen so far, repeats included
+        private long values;
+        // Set once the column stops taking new values, by its limit or its distinct ratio
+        private boolean full;
+
+        SharedColumn(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+    }
+
+    // Inner class on purpose: SheetDataWriter opens its temp file from its constructor, before fields of a subclass
+    // are assigned, while the enclosing workbook is already reachable there.
+    private class ColumnSheetDataWriter extends SheetDataWriter {
+        ColumnSheetDataWriter() throws IOException {
+            super(getSharedStringSource());
+        }
+
+        @Override
+        public void writeCell(int columnIndex, Cell cell) throws IOException {
+            if (cell == null || cell.getCellType() != CellType.STRING) {
+                super.writeCell(columnIndex, cell);
+                return;
+            }
+            String value = cell.getStringCellValue();
+            int sharedStringIndex;
+            // Sheets of a partitioned export are flushed concurrently, and the shared strings table is not thread-safe
+            synchronized (getSharedStringSource()) {
+                sharedStringIndex = sharedStringIndex(cell, columnIndex, value);
+            }
+
+            // Same markup as SheetDataWriter writes for a string cell, with and without a shared strings table
+            _out.write("<c r=\"" + new CellReference(cell.getRowIndex(), columnIndex).formatAsString() + "\"");
+            CellStyle cellStyle = cell.getCellStyle();
+            if (cellStyle.getIndex() != 0) _out.write(" s=\"" + (cellStyle.getIndex() & 0xffff) + "\"");
+            if (sharedStringIndex >= 0) {
+                _out.write(" t=\"s\"><v>" + sharedStringIndex + "</v></c>");
+                return;
+            }
+            _out.write(" t=\"inlineStr\"><is><t");
+            if (!value.isEmpty() && (Character.isWhitespace(value.charAt(0)) || Character.isWhitespace(value.charAt(value.length() - 1))))
+                _out.write(" xml:space=\"preserve\"");
+            _out.write(">");
+            outputEscapedString(value);
+            _out.write("</t></is></c>");
+        }
+
+        @Override
+        protected OutputStream decorateOutputStream(FileOutputStream fos) throws IOException {
+            return isCompressTempFiles() ? new GZIPOutputStream(fos) : fos;
+        }
+
+        @Override
+        protected InputStream decorateInputStream(FileInputStream fis) throws IOException {
+            return isCompressTempFiles() ? new GZIPInputStream(fis) : fis;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package org.trupt.utils;
+
+import org.apache.logging.log4j.Logger;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.ss.util.CellReference;
+import org.trupt.annotation.ExcelCellHeader;
+import org.trupt.config.ExportOptions;
+import org.trupt.config.Log4j2Config;
+import org.trupt.metrics.OperationMetrics;
+import org.trupt.schema.ColumnSchema;
+import org.trupt.schema.HeaderPlan;
+import org.trupt.schema.RowSchema;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Date;
+
+// Writes the header, data rows and statistics footer of one sheet. Works for both in-memory and streaming
+// workbooks because it never reads back rows it has already written.
+class SheetWriter {
+    private static final Logger logger = Log4j2Config.getLogger(SheetWriter.class);
+    private final Sheet sheet;
+    private final RowSchema<?> schema;
+    private final HeaderPlan headerPlan;
+    private final StyleRegistry styleRegistry;
+    private final CellStyle[] dataStyles;
+    private final ColumnAggregate[] aggregates;
+    private final ColumnWidthTracker columnWidths;
+    private final OperationMetrics metrics;
+    private int nextRowNum = 0;
+
+    SheetWriter(Sheet sheet, RowSchema<?> schema, HeaderPlan headerPlan, StyleRegistry styleRegistry, ExportOptions exportOptions,
+                OperationMetrics metrics) {
+        this.sheet = sheet;
+        this.schema = schema;
+        this.headerPlan = headerPlan;
+        this.styleRegistry = styleRegistry;
+        this.dataStyles = new CellStyle[schema.size()];
+        this.aggregates = new ColumnAggregate[schema.size()];
+        this.columnWidths = new ColumnWidthTracker(schema, headerPlan, exportOptions.getColumnWidthStrategy(), exportOptions.getWidthSampleRows());
+        this.metrics = metrics;
+        for (ColumnSchema column : schema.getColumns()) {
+            ExcelCellHeader header = column.getHeader();
+            dataStyles[column.getIndex()] = styleRegistry.formatStyle(header.format());
+            if (header.calculateSum() || header.calculateAverage()) aggregates[column.getIndex()] = new ColumnAggregate();
+        }
+        if (sheet.getWorkbook() instanceof SharedStringsWorkbook workbook) workbook.setLabelStyle(styleRegistry.highlightStyle());
+    }
+
+    void writeHeaderRow() {
+        Row headerRow = sheet.createRow(nextRowNum++);
+        for (ColumnSchema columnSchema : schema.getColumns()) {
+            int headerCellNo = columnSchema.getIndex();
+            Cell cell = headerRow.createCell(headerCellNo);
+            cell.setCellValue(headerPlan.getHeaderName(columnSchema));
+            cell.setCellStyle(styleRegistry.highlightStyle());
+        }
+    }
+
+    void writeDataRows(Iterable<?> beans) {
+        for (Object bean : beans) writeDataRow(bean);
+    }
+
+    void writeDataRow(Object bean) {
+        int rowNum = nextRowNum++;
+        Row dataRow = sheet.createRow(rowNum);
+        boolean measured = columnWidths.nextRow();
+        for (ColumnSchema column : schema.getColumns()) {
+            int cellIndex = column.getIndex();
+            try {
+                Object value = column.get(bean);
+                Cell cell = dataRow.createCell(cellIndex);
+                CellStyle dataStyle = dataStyles[cellIndex];
+                if (dataStyle != null) cell.setCellStyle(dataStyle);
+
+                if (value != null) {
+                    if (dataStyle != null && setDateValue(cell, value)) {
+                        if (measured) columnWidths.measureFormatted(cellIndex);
+                    } else if (value instanceof Number number) {
+                        double numericValue = number.doubleValue();
+                        // NaN and infinities would become error cells, which turn SUM and AVERAGE into errors too.
+                        // They are left blank, so the formulas and their cached values skip them alike.
+                        if (Double.isFinite(numericValue)) {
+                            cell.setCellValue(numericValue);
+                            if (measured) columnWidths.measure(cellIndex, number);
+                            if (aggregates[cellIndex] != null) aggregates[cellIndex].add(rowNum, numericValue);
+                        }
+                    } else {
+                        String cellValue = value.toString();
+                        cell.setCellValue(cellValue);
+                        if (measured) columnWidths.measure(cellIndex, cellValue.length());
+                    }
+                }
+            } catch (Exception e) {
+                metrics.conversionFailed(column.getName(), rowNum, e);
+                logger.error("[ERROR] An error occurred while setting field value: " + Arrays.toString(e.getStackTrace()));
+            }
+        }
+    }
+
+    // Formatted date columns are written as date serials so that the column format applies to them
+    private boolean setDateValue(Cell cell, Object value) {
+        if (value instanceof LocalDate localDate) {
+            cell.setCellValue(localDate);
+        } else if (value instanceof LocalDateTime localDateTime) {
+            cell.setCellValue(localDateTime);
+        } else if (value instanceof Date date) {
+            cell.setCellValue(date);
+        } else if (value instanceof Calendar calendar) {
+            cell.setCellValue(calendar);
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    // Writes the SUM and AVERAGE rows from the aggregates collected while writing, without rescanning the sheet.
+    // The formulas carry their results as cached values, so viewers show totals without recalculating.
+    void writeStatisticRows() {
+        Row sumRow = sheet.createRow(nextRowNum++);
+        Row avgRow = sheet.createRow(nextRowNum++);
+
+        for (ColumnSchema columnSchema : schema.getColumns()) {
+            ExcelCellHeader column = columnSchema.getHeader();
+            ColumnAggregate aggregate = aggregates[columnSchema.getIndex()];
+            if (column.calculateSum()) {
+                writeStatisticLabel(sumRow, headerPlan.getSumRowName());
+                writeStatisticFormula(sumRow, columnSchema, aggregate, "SUM", aggregate.getSum());
+            }
+            if (column.calculateAverage()) {
+                writeStatisticLabel(avgRow, headerPlan.getAvgRowName());
+                // AVERAGE skips text cells like the aggregate does, AVERAGEA would count them as 0
+                writeStatisticFormula(avgRow, columnSchema, aggregate, "AVERAGE", aggregate.getAverage());
+            }
+        }
+    }
+
+    // Sets every column width once, after the last row of the sheet
+    void applyColumnWidths() {
+        columnWidths.apply(sheet);
+    }
+
+    private void writeStatisticLabel(Row targetRow, String label) {
+        // Add label only once in the first cell of the statistics row
+        if (targetRow.getCell(0) == null) {
+            targetRow.createCell(0).setCellValue(label);
+            targetRow.getCell(0).setCellStyle(styleRegistry.highlightStyle());
+            columnWidths.measure(0, label.length());
+        }
+    }
+
+    private void writeStatisticFormula(Row targetRow, ColumnSchema columnSchema, ColumnAggregate aggregate, String formulaType, double cachedValue) {
+        if (aggregate.isEmpty()) {
+            logger.error("[ERROR] No data found in column '{}'.", columnSchema.getHeader().headerName());
+            return;
+        }
+        String column = CellReference.convertNumToColString(columnSchema.getIndex());
+        Cell formulaCell = targetRow.createCell(columnSchema.getIndex());
+        formulaCell.setCellFormula(formulaType + "(" + column + (aggregate.getFirstRowNum() + 1)
+                + ":" + column + (aggregate.getLastRowNum() + 1) + ")");
+        formulaCell.setCellValue(cachedValue);
+        CellStyle dataStyle = dataStyles[columnSchema.getIndex()];
+        if (dataStyle != null) formulaCell.setCellStyle(dataStyle);
+    }
+}
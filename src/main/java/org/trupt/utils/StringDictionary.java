@@ -0,0 +1,45 @@
+package org.trupt.utils;
+
+import org.apache.logging.log4j.Logger;
+import org.trupt.config.Log4j2Config;
+import org.trupt.schema.ColumnSchema;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Canonical instances of the distinct values of one low-cardinality column. Bounded by the column's
+// lowCardinalityLimit, so a column that turns out to have many distinct values costs at most that many entries;
+// values first seen after that are passed through unchanged. Safe for concurrent use by the workers of a parallel import.
+class StringDictionary {
+    private static final Logger logger = Log4j2Config.getLogger(StringDictionary.class);
+    private final String columnName;
+    private final int maxEntries;
+    private final Map<String, String> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean overflowLogged = new AtomicBoolean();
+
+    StringDictionary(ColumnSchema column) {
+        this.columnName = column.getName();
+        this.maxEntries = maxEntries(column);
+    }
+
+    // Distinct values of the column that are deduplicated on import and shared on export
+    static int maxEntries(ColumnSchema column) {
+        int limit = column.getHeader().lowCardinalityLimit();
+        if (limit < 1) throw new IllegalArgumentException("Low-cardinality limit of column " + column.getName() + " must be positive: " + limit);
+        return limit;
+    }
+
+    String canonicalize(String value) {
+        if (value == null) return null;
+        String canonical = entries.get(value);
+        if (canonical != null) return canonical;
+        if (entries.size() >= maxEntries) {
+            if (overflowLogged.compareAndSet(false, true))
+                logger.info("[INFO] Column {} has more than {} distinct values, its new values are no longer deduplicated.", columnName, maxEntries);
+            return value;
+        }
+        canonical = entries.putIfAbsent(value, value);
+        return canonical != null ? canonical : value;
+    }
+}
@@ -0,0 +1,67 @@
+package org.trupt.utils;
+
+import org.apache.poi.ss.usermodel.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Creates each distinct cell style of a workbook once and hands out the shared instance afterwards,
+// keeping exports well below Excel's cell style limit regardless of their width
+class StyleRegistry {
+    // No fill colour
+    static final short NO_FILL = -1;
+
+    record StyleKey(boolean bold, short fillColor, String dataFormat) {
+    }
+
+    private final Workbook workbook;
+    private final Map<StyleKey, CellStyle> styles = new HashMap<>();
+    private Font boldFont;
+    private DataFormat dataFormat;
+
+    StyleRegistry(Workbook workbook) {
+        this.workbook = workbook;
+    }
+
+    // Bold with a yellow background, used by the header and footer labels
+    CellStyle highlightStyle() {
+        return getStyle(new StyleKey(true, IndexedColors.YELLOW1.getIndex(), null));
+    }
+
+    // Returns null when the format is empty, so cells keep the workbook's default style
+    CellStyle formatStyle(String format) {
+        if (format == null || format.isEmpty()) return null;
+        return getStyle(new StyleKey(false, NO_FILL, format));
+    }
+
+    CellStyle getStyle(StyleKey key) {
+        CellStyle cellStyle = styles.get(key);
+        if (cellStyle == null) {
+            cellStyle = createStyle(key);
+            styles.put(key, cellStyle);
+        }
+        return cellStyle;
+    }
+
+    private CellStyle createStyle(StyleKey key) {
+        CellStyle cellStyle = workbook.createCellStyle();
+        if (key.bold()) cellStyle.setFont(getBoldFont());
+        if (key.fillColor() != NO_FILL) {
+            cellStyle.setFillForegroundColor(key.fillColor());
+            cellStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        }
+        if (key.dataFormat() != null) {
+            if (dataFormat == null) dataFormat = workbook.createDataFormat();
+            cellStyle.setDataFormat(dataFormat.getFormat(key.dataFormat()));
+        }
+        return cellStyle;
+    }
+
+    private Font getBoldFont() {
+        if (boldFont == null) {
+            boldFont = workbook.createFont();
+            boldFont.setBold(true);
+        }
+        return boldFont;
+    }
+}
@@ -0,0 +1,38 @@
+package org.trupt.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CsvOptionsTest {
+    @Test
+    void delimiterDefaultsToTheFormat() {
+        CsvOptions options = CsvOptions.defaults();
+
+        assertEquals(',', options.getDelimiter(FileFormat.CSV));
+        assertEquals('\t', options.getDelimiter(FileFormat.TSV));
+        assertEquals(';', CsvOptions.builder().delimiter(';').build().getDelimiter(FileFormat.CSV));
+    }
+
+    @Test
+    void quoteMustDifferFromTheExplicitDelimiter() {
+        assertThrows(IllegalArgumentException.class, () -> CsvOptions.builder().delimiter(';').quoteChar(';').build());
+    }
+
+    @Test
+    void quoteMustDifferFromTheDefaultDelimiters() {
+        assertThrows(IllegalArgumentException.class, () -> CsvOptions.builder().quoteChar(',').build());
+        assertThrows(IllegalArgumentException.class, () -> CsvOptions.builder().quoteChar('\t').build());
+        // An explicit delimiter replaces the defaults
+        assertDoesNotThrow(() -> CsvOptions.builder().delimiter(';').quoteChar(',').build());
+    }
+
+    @Test
+    void lineBreaksAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> CsvOptions.builder().delimiter('\n'));
+        assertThrows(IllegalArgumentException.class, () -> CsvOptions.builder().quoteChar('\r'));
+        assertThrows(IllegalArgumentException.class, () -> CsvOptions.builder().lineSeparator(""));
+    }
+}
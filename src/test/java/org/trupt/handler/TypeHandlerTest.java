@@ -0,0 +1,222 @@
+package org.trupt.handler;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.trupt.annotation.ExcelCellHeader;
+import org.trupt.utils.ExporterUtil;
+import org.trupt.utils.ImporterUtil;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class TypeHandlerTest {
+    enum Color { RED, GREEN }
+
+    public static class Item {
+        @ExcelCellHeader(headerName = "name")
+        private String name;
+        @ExcelCellHeader(headerName = "color")
+        private Color color;
+
+        public Item() {
+        }
+
+        Item(String name, Color color) {
+            this.name = name;
+            this.color = color;
+        }
+
+        @Override
+        public String toString() {
+            return name + ":" + color;
+        }
+    }
+
+    public static class Counter {
+        @ExcelCellHeader(headerName = "count")
+        private long count;
+        @ExcelCellHeader(headerName = "active")
+        private boolean active;
+        @ExcelCellHeader(headerName = "ratio")
+        private double ratio;
+
+        @Override
+        public String toString() {
+            return count + ":" + active + ":" + ratio;
+        }
+    }
+
+    // Written against the original contract, before convert existed
+    static class LegacyColorHandler implements TypeHandler {
+        @Override
+        public void handle(Field field, Object instance, Cell cell) throws IllegalAccessException {
+            field.set(instance, Color.valueOf(cell.getStringCellValue().toUpperCase(Locale.ROOT)));
+        }
+    }
+
+    private static SourceCell stringCell(String value) {
+        return new SourceCell() {
+            @Override
+            public CellType getCellType() {
+                return CellType.STRING;
+            }
+
+            @Override
+            public String getStringCellValue() {
+                return value;
+            }
+
+            @Override
+            public double getNumericCellValue() {
+                throw new IllegalStateException("Not a number");
+            }
+
+            @Override
+            public boolean getBooleanCellValue() {
+                throw new IllegalStateException("Not a boolean");
+            }
+        };
+    }
+
+    private static SourceCell numericCell(double value) {
+        return new SourceCell() {
+            @Override
+            public CellType getCellType() {
+                return CellType.NUMERIC;
+            }
+
+            @Override
+            public String getStringCellValue() {
+                throw new IllegalStateException("Not a string");
+            }
+
+            @Override
+            public double getNumericCellValue() {
+                return value;
+            }
+
+            @Override
+            public boolean getBooleanCellValue() {
+                throw new IllegalStateException("Not a boolean");
+            }
+        };
+    }
+
+    @TempDir
+    Path tempDir;
+
+    private File exportItems() throws IOException {
+        File file = tempDir.resolve("items.xlsx").toFile();
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            new ExporterUtil().exportFile(List.of(new Item("a", Color.RED), new Item("b", Color.GREEN)), Locale.ROOT, outputStream);
+        }
+        return file;
+    }
+
+    @Test
+    void enumsAreMatchedByName() throws IOException {
+        File file = exportItems();
+        ImporterUtil importerUtil = new ImporterUtil();
+
+        assertEquals("[a:RED, b:GREEN]", importerUtil.importFile(file, Item.class).toString());
+        assertEquals("[a:RED, b:GREEN]", importerUtil.importFileStreaming(file, Item.class).toString());
+    }
+
+    @Test
+    void handleOnlyHandlersWorkWithEveryImport() throws IOException {
+        File csv = tempDir.resolve("items.csv").toFile();
+        Files.writeString(csv.toPath(), "name,color\na,red\nb,Green\n");
+        ImporterUtil importerUtil = new ImporterUtil(new TypeHandlerStorage().register(Color.class, new LegacyColorHandler()));
+        List<Item> items = importerUtil.importFileStreaming(csv, Item.class);
+        assertEquals("[a:RED, b:GREEN]", items.toString());
+
+        File xlsx = tempDir.resolve("items.xlsx").toFile();
+        try (OutputStream outputStream = new FileOutputStream(xlsx)) {
+            new ExporterUtil().exportFile(items, Locale.ROOT, outputStream);
+        }
+        assertEquals("[a:RED, b:GREEN]", importerUtil.importFile(xlsx, Item.class).toString());
+        assertEquals("[a:RED, b:GREEN]", importerUtil.importFileStreaming(xlsx, Item.class).toString());
+        assertEquals(Color.GREEN, importerUtil.importFileColumnar(xlsx, Item.class).getColumn("color").get(1));
+    }
+
+    @Test
+    void handleOnlyHandlersStillConvert() {
+        assertEquals(Color.GREEN, new LegacyColorHandler().convert(stringCell("green")));
+    }
+
+    @Test
+    void lambdaHandlersAreAccepted() throws IOException {
+        File csv = tempDir.resolve("items.csv").toFile();
+        Files.writeString(csv.toPath(), "name,color\na,red\n");
+        TypeHandlerStorage storage = new TypeHandlerStorage()
+                .register(String.class, (field, instance, cell) -> field.set(instance, "L-" + cell.getStringCellValue()))
+                .register(Color.class, new LegacyColorHandler());
+
+        assertEquals("[L-a:RED]", new ImporterUtil(storage).importFileStreaming(csv, Item.class).toString());
+    }
+
+    @Test
+    void primitiveFieldsAreSetFromTheirCells() throws IOException {
+        File file = tempDir.resolve("counters.xlsx").toFile();
+        try (Workbook workbook = new XSSFWorkbook(); OutputStream outputStream = new FileOutputStream(file)) {
+            Row header = workbook.createSheet().createRow(0);
+            header.createCell(0).setCellValue("count");
+            header.createCell(1).setCellValue("active");
+            header.createCell(2).setCellValue("ratio");
+            Row row = workbook.getSheetAt(0).createRow(1);
+            row.createCell(0).setCellValue(3_000_000_000.0);
+            row.createCell(1).setCellValue(true);
+            row.createCell(2).setCellValue(0.25);
+            workbook.write(outputStream);
+        }
+
+        ImporterUtil importerUtil = new ImporterUtil();
+        assertEquals("[3000000000:true:0.25]", importerUtil.importFile(file, Counter.class).toString());
+        assertEquals("[3000000000:true:0.25]", importerUtil.importFileStreaming(file, Counter.class).toString());
+    }
+
+    @Test
+    void builtInHandlersConvertWithoutAField() {
+        assertEquals(42, new IntTypeHandler().convert(stringCell("42")));
+        assertEquals("x", new StringTypeHandler().convert(stringCell("x")));
+        assertThrows(IllegalArgumentException.class, () -> new IntTypeHandler().convert(stringCell("x")));
+    }
+
+    @Test
+    void numericCellsAreReadAsStringsWithoutATrailingFraction() throws IOException {
+        StringTypeHandler handler = new StringTypeHandler();
+        assertEquals("42", handler.convert(numericCell(42)));
+        assertEquals("-7", handler.convert(numericCell(-7)));
+        assertEquals("0.5", handler.convert(numericCell(0.5)));
+
+        File file = tempDir.resolve("numeric-names.xlsx").toFile();
+        try (Workbook workbook = new XSSFWorkbook(); OutputStream outputStream = new FileOutputStream(file)) {
+            Row header = workbook.createSheet().createRow(0);
+            header.createCell(0).setCellValue("name");
+            header.createCell(1).setCellValue("color");
+            Row row = workbook.getSheetAt(0).createRow(1);
+            row.createCell(0).setCellValue(42);
+            row.createCell(1).setCellValue("RED");
+            workbook.write(outputStream);
+        }
+
+        ImporterUtil importerUtil = new ImporterUtil();
+        assertEquals("[42:RED]", importerUtil.importFile(file, Item.class).toString());
+        assertEquals("[42:RED]", importerUtil.importFileStreaming(file, Item.class).toString());
+    }
+}
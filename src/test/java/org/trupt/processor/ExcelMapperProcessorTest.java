@@ -0,0 +1,289 @@
+package org.trupt.processor;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.trupt.mapper.GeneratedMappers;
+import org.trupt.mapper.RowReader;
+import org.trupt.utils.ExporterUtil;
+import org.trupt.utils.ImporterUtil;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Compiles the same beans with and without the processor, the generated mappers must behave like reflection
+class ExcelMapperProcessorTest {
+    private static final String PERSON = """
+            package gen;
+
+            import org.trupt.annotation.ExcelCellHeader;
+            import java.time.LocalDate;
+
+            public class Person {
+                @ExcelCellHeader(headerName = "name", isRequired = true) String name;
+                @ExcelCellHeader(headerName = "age") int age;
+                @ExcelCellHeader(headerName = "salary") Double salary;
+                @ExcelCellHeader(headerName = "birth", format = "yyyy-mm-dd") protected LocalDate birth;
+                String notExported;
+            }
+            """;
+    private static final String BOX = """
+            package gen;
+
+            import org.trupt.annotation.ExcelCellHeader;
+            import java.util.List;
+
+            public class Box<T extends Comparable<T>, U> {
+                @ExcelCellHeader(headerName = "name") T value;
+                @ExcelCellHeader(headerName = "age") int count;
+                @ExcelCellHeader(headerName = "code") List<U> items;
+            }
+            """;
+    private static final String PRIVATE_FIELDS = """
+            package gen;
+
+            import org.trupt.annotation.ExcelCellHeader;
+
+            public class PrivateFields {
+                // Accessor calls, the reflective path never makes any
+                public static int calls;
+
+                @ExcelCellHeader(headerName = "name") private String name;
+                @ExcelCellHeader(headerName = "age") private int age;
+
+                public String getName() {
+                    calls++;
+                    return name;
+                }
+
+                public void setName(String name) {
+                    calls++;
+                    this.name = name;
+                }
+
+                public int getAge() {
+                    calls++;
+                    return age;
+                }
+
+                void setAge(int age) {
+                    calls++;
+                    this.age = age;
+                }
+            }
+            """;
+    private static final String GETTER_ONLY = """
+            package gen;
+
+            import org.trupt.annotation.ExcelCellHeader;
+
+            public class GetterOnly {
+                @ExcelCellHeader(headerName = "name") private String name;
+
+                public String getName() {
+                    return name;
+                }
+            }
+            """;
+    private static final String FINAL_FIELDS = """
+            package gen;
+
+            import org.trupt.annotation.ExcelCellHeader;
+
+            public class FinalFields {
+                @ExcelCellHeader(headerName = "name") final String name = "fixed";
+            }
+            """;
+
+    @TempDir
+    static Path tempDir;
+    private static Path generatedClasses;
+    private static Path reflectiveClasses;
+
+    @BeforeAll
+    static void compileBeans() throws IOException {
+        Path sources = tempDir.resolve("src/gen");
+        Files.createDirectories(sources);
+        Files.writeString(sources.resolve("Person.java"), PERSON);
+        Files.writeString(sources.resolve("Box.java"), BOX);
+        Files.writeString(sources.resolve("PrivateFields.java"), PRIVATE_FIELDS);
+        Files.writeString(sources.resolve("GetterOnly.java"), GETTER_ONLY);
+        Files.writeString(sources.resolve("FinalFields.java"), FINAL_FIELDS);
+
+        generatedClasses = compile(sources, "generated", "-processor", ExcelMapperProcessor.class.getName());
+        reflectiveClasses = compile(sources, "reflective", "-proc:none");
+    }
+
+    // Warnings fail the compilation, so raw types or unchecked code in the generated mappers are caught
+    private static Path compile(Path sources, String name, String... processorOptions) throws IOException {
+        Path output = Files.createDirectories(tempDir.resolve(name));
+        String libraryClasses = Path.of(classesUrl().getPath()).toString();
+        List<String> arguments = new ArrayList<>(List.of("-Xlint:all,-processing", "-Werror", "-classpath", libraryClasses, "-processorpath", libraryClasses,
+                "-d", output.toString(), "-s", output.toString()));
+        arguments.addAll(List.of(processorOptions));
+        try (var files = Files.list(sources)) {
+            files.forEach(file -> arguments.add(file.toString()));
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        ByteArrayOutputStream diagnostics = new ByteArrayOutputStream();
+        int status = compiler.run(null, diagnostics, diagnostics, arguments.toArray(String[]::new));
+        assertEquals(0, status, diagnostics.toString());
+        return output;
+    }
+
+    private static URL classesUrl() {
+        return ExcelMapperProcessor.class.getProtectionDomain().getCodeSource().getLocation();
+    }
+
+    private static Class<?> load(Path classes, String name) throws Exception {
+        URLClassLoader classLoader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, ExcelMapperProcessorTest.class.getClassLoader());
+        return Class.forName(name, true, classLoader);
+    }
+
+    @Test
+    void generatesMappersOnlyForReachableFields() {
+        assertTrue(Files.exists(generatedClasses.resolve("gen/Person_RowWriter.class")));
+        assertTrue(Files.exists(generatedClasses.resolve("gen/Person_RowReader.class")));
+        assertTrue(Files.exists(generatedClasses.resolve("gen/PrivateFields_RowWriter.java")));
+        assertTrue(Files.exists(generatedClasses.resolve("gen/PrivateFields_RowReader.java")));
+        assertTrue(Files.exists(generatedClasses.resolve("gen/GetterOnly_RowWriter.java")));
+        assertFalse(Files.exists(generatedClasses.resolve("gen/GetterOnly_RowReader.java")));
+        assertTrue(Files.exists(generatedClasses.resolve("gen/FinalFields_RowWriter.java")));
+        assertFalse(Files.exists(generatedClasses.resolve("gen/FinalFields_RowReader.java")));
+        assertFalse(Files.exists(reflectiveClasses.resolve("gen/Person_RowWriter.class")));
+    }
+
+    @Test
+    void genericBeansGetGenericMappers() throws Exception {
+        Class<?> box = load(generatedClasses, "gen.Box");
+        RowReader<?> reader = GeneratedMappers.findReader(box, List.of("value", "count", "items"));
+
+        assertNotNull(reader);
+        assertEquals(2, reader.getClass().getTypeParameters().length);
+        String source = Files.readString(generatedClasses.resolve("gen/Box_RowReader.java"));
+        assertTrue(source.contains("implements org.trupt.mapper.RowReader<gen.Box<T, U>>"), source);
+        assertTrue(source.contains("bean.items = (java.util.List<U>) value;"), source);
+    }
+
+    @Test
+    void reflectiveClassesHaveNoMappers() throws Exception {
+        Class<?> person = load(reflectiveClasses, "gen.Person");
+        assertNull(GeneratedMappers.findWriter(person, List.of("name", "age", "salary", "birth")));
+    }
+
+    @Test
+    void generatedMappersMatchReflection() throws Exception {
+        Class<?> person = load(generatedClasses, "gen.Person");
+        assertNotNull(GeneratedMappers.findWriter(person, List.of("name", "age", "salary", "birth")));
+        assertNotNull(GeneratedMappers.findReader(person, List.of("name", "age", "salary", "birth")));
+
+        List<List<Object>> generated = roundTrip(person, "generated");
+        List<List<Object>> reflective = roundTrip(load(reflectiveClasses, "gen.Person"), "reflective");
+
+        assertEquals(reflective, generated);
+        assertEquals(List.of("p0", 20, 1000.5, LocalDate.of(1990, 1, 1)), generated.get(0));
+        assertEquals(List.of("p1", 21, 1001.5, LocalDate.of(1990, 1, 2)), generated.get(1));
+    }
+
+    @Test
+    void privateFieldsAreMappedThroughTheirAccessors() throws Exception {
+        Class<?> type = load(generatedClasses, "gen.PrivateFields");
+        assertNotNull(GeneratedMappers.findWriter(type, List.of("name", "age")));
+        assertNotNull(GeneratedMappers.findReader(type, List.of("name", "age")));
+        String source = Files.readString(generatedClasses.resolve("gen/PrivateFields_RowReader.java"));
+        assertTrue(source.contains("bean.setAge(value);"), source);
+
+        List<Object> beans = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Object bean = type.getDeclaredConstructor().newInstance();
+            set(bean, "name", "p" + i);
+            set(bean, "age", 20 + i);
+            beans.add(bean);
+        }
+        File file = tempDir.resolve("private.xlsx").toFile();
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            new ExporterUtil().exportFile(beans, Locale.ROOT, outputStream);
+        }
+        Field calls = type.getField("calls");
+        // One getter call per cell
+        assertEquals(6, calls.getInt(null));
+
+        List<?> imported = new ImporterUtil().importFileStreaming(file, type);
+        // And one setter call per cell
+        assertEquals(12, calls.getInt(null));
+        assertEquals(3, imported.size());
+        assertEquals("p2", get(imported.get(2), "name"));
+        assertEquals(22, get(imported.get(2), "age"));
+    }
+
+    // Exports beans with known values, then returns the field values of every import of that file
+    private List<List<Object>> roundTrip(Class<?> type, String name) throws Exception {
+        List<Object> beans = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Object bean = type.getDeclaredConstructor().newInstance();
+            set(bean, "name", "p" + i);
+            set(bean, "age", 20 + i);
+            set(bean, "salary", 1000.5 + i);
+            set(bean, "birth", LocalDate.of(1990, 1, 1).plusDays(i));
+            beans.add(bean);
+        }
+
+        File file = tempDir.resolve(name + ".xlsx").toFile();
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            new ExporterUtil().exportFile(beans, Locale.ROOT, outputStream);
+        }
+
+        List<List<Object>> values = new ArrayList<>();
+        ImporterUtil importerUtil = new ImporterUtil();
+        for (Object bean : importerUtil.importFileStreaming(file, type)) values.add(fieldValues(bean));
+        assertEquals(values, importerUtil.importFile(file, type).stream().map(ExcelMapperProcessorTest::fieldValues).toList());
+        return values;
+    }
+
+    private static void set(Object bean, String fieldName, Object value) throws ReflectiveOperationException {
+        Field field = bean.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        field.set(bean, value);
+    }
+
+    private static Object get(Object bean, String fieldName) throws ReflectiveOperationException {
+        Field field = bean.getClass().getDeclaredField(fieldName);
+        field.setAccessible(true);
+        return field.get(bean);
+    }
+
+    private static List<Object> fieldValues(Object bean) {
+        List<Object> values = new ArrayList<>();
+        for (String fieldName : List.of("name", "age", "salary", "birth")) {
+            try {
+                Field field = bean.getClass().getDeclaredField(fieldName);
+                field.setAccessible(true);
+                values.add(field.get(bean));
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return values;
+    }
+}
@@ -0,0 +1,63 @@
+package org.trupt.schema;
+
+import org.junit.jupiter.api.Test;
+import org.trupt.annotation.ExcelCellHeader;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HeaderBindingTest {
+    static class Person {
+        @ExcelCellHeader(headerName = "name")
+        String name;
+        @ExcelCellHeader(headerName = "age")
+        int age;
+    }
+
+    static class SharedHeader {
+        @ExcelCellHeader(headerName = "name")
+        String firstName;
+        @ExcelCellHeader(headerName = "Name")
+        String lastName;
+    }
+
+    @Test
+    void bindsColumnsByHeaderTextIgnoringCaseAndOrder() {
+        RowSchema<Person> schema = RowSchema.of(Person.class);
+        HeaderBinding binding = HeaderBinding.bind(schema, Arrays.asList("Unused", null, "AGE", "Name"));
+
+        assertEquals(3, binding.getColumnIndex(schema.getColumns().get(0)));
+        assertEquals(2, binding.getColumnIndex(schema.getColumns().get(1)));
+    }
+
+    @Test
+    void reportsEveryMissingAndDuplicatedHeaderAtOnce() {
+        RowSchema<Person> schema = RowSchema.of(Person.class);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> HeaderBinding.bind(schema, List.of("name", "other", "NAME")));
+
+        assertTrue(e.getMessage().contains("Columns not found: [age]"), e.getMessage());
+        assertTrue(e.getMessage().contains("Duplicate columns: [NAME]"), e.getMessage());
+    }
+
+    @Test
+    void emptyHeaderRowMissesEveryColumn() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> HeaderBinding.bind(RowSchema.of(Person.class), List.of()));
+
+        assertTrue(e.getMessage().contains("Columns not found: [name, age]"), e.getMessage());
+    }
+
+    @Test
+    void rejectsFieldsSharingAHeader() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> HeaderBinding.bind(RowSchema.of(SharedHeader.class), List.of("name")));
+
+        assertTrue(e.getMessage().contains("firstName"), e.getMessage());
+        assertTrue(e.getMessage().contains("lastName"), e.getMessage());
+    }
+}
@@ -0,0 +1,71 @@
+package org.trupt.schema;
+
+import org.junit.jupiter.api.Test;
+import org.trupt.annotation.ExcelCellHeader;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class HeaderPlanCacheTest {
+    static class Person {
+        @ExcelCellHeader(headerName = "name")
+        String name;
+        @ExcelCellHeader(headerName = "age", calculateSum = true, calculateAverage = true)
+        int age;
+    }
+
+    static class Other {
+        @ExcelCellHeader(headerName = "name")
+        String name;
+    }
+
+    @Test
+    void planHoldsTheLocalizedTexts() {
+        RowSchema<Person> schema = RowSchema.of(Person.class);
+        HeaderPlan plan = new HeaderPlanCache(4).get(schema, Locale.ROOT);
+
+        assertEquals("Name", plan.getHeaderName(schema.getColumns().get(0)));
+        assertEquals("Age", plan.getHeaderName(schema.getColumns().get(1)));
+        assertEquals("Total", plan.getSumRowName());
+        assertEquals("Average", plan.getAvgRowName());
+    }
+
+    @Test
+    void plansAreReusedPerClassAndLocale() {
+        HeaderPlanCache cache = new HeaderPlanCache(4);
+        HeaderPlan plan = cache.get(RowSchema.of(Person.class), Locale.ROOT);
+
+        assertSame(plan, cache.get(RowSchema.of(Person.class), Locale.ROOT));
+        assertNotSame(plan, cache.get(RowSchema.of(Person.class), Locale.GERMAN));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    void leastRecentlyUsedPlanIsEvicted() {
+        HeaderPlanCache cache = new HeaderPlanCache(2);
+        HeaderPlan person = cache.get(RowSchema.of(Person.class), Locale.ROOT);
+        HeaderPlan other = cache.get(RowSchema.of(Other.class), Locale.ROOT);
+        cache.get(RowSchema.of(Person.class), Locale.ROOT);
+        cache.get(RowSchema.of(Person.class), Locale.GERMAN);
+
+        assertEquals(2, cache.size());
+        assertSame(person, cache.get(RowSchema.of(Person.class), Locale.ROOT));
+        assertNotSame(other, cache.get(RowSchema.of(Other.class), Locale.ROOT));
+    }
+
+    @Test
+    void invalidatedPlansAreResolvedAgain() {
+        HeaderPlanCache cache = new HeaderPlanCache(4);
+        HeaderPlan person = cache.get(RowSchema.of(Person.class), Locale.ROOT);
+        cache.get(RowSchema.of(Other.class), Locale.GERMAN);
+
+        cache.invalidate(Locale.GERMAN);
+        assertEquals(1, cache.size());
+        cache.invalidate(Person.class);
+        assertEquals(0, cache.size());
+        assertNotSame(person, cache.get(RowSchema.of(Person.class), Locale.ROOT));
+    }
+}
@@ -0,0 +1,44 @@
+package org.trupt.schema;
+
+import org.junit.jupiter.api.Test;
+import org.trupt.annotation.ExcelCellHeader;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RowSchemaTest {
+    static class Settings {
+        @ExcelCellHeader(headerName = "name")
+        private String name;
+        @ExcelCellHeader(headerName = "version")
+        private static int version;
+        private String notExported;
+    }
+
+    @Test
+    void columnsFollowTheFieldOrder() {
+        RowSchema<Settings> schema = RowSchema.of(Settings.class);
+
+        assertEquals(2, schema.size());
+        assertEquals("name", schema.getColumns().get(0).getName());
+        assertEquals("version", schema.getColumns().get(1).getName());
+        assertSame(schema, RowSchema.of(Settings.class));
+    }
+
+    @Test
+    void staticFieldsAreReadAndWrittenLikeInstanceFields() throws ReflectiveOperationException {
+        RowSchema<Settings> schema = RowSchema.of(Settings.class);
+        ColumnSchema name = schema.getColumns().get(0);
+        ColumnSchema version = schema.getColumns().get(1);
+        Settings settings = schema.newInstance();
+
+        name.set(settings, "a");
+        version.set(settings, 3);
+        assertEquals("a", name.get(settings));
+        assertEquals(3, version.get(settings));
+        assertEquals(3, Settings.version);
+
+        version.setInt(settings, 4);
+        assertEquals(4, version.get(new Settings()));
+    }
+}
@@ -0,0 +1,152 @@
+package org.trupt.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.trupt.checkpoint.Checkpoint;
+import org.trupt.checkpoint.CheckpointStore;
+import org.trupt.checkpoint.FileCheckpointStore;
+import org.trupt.checkpoint.SourceIdentity;
+import org.trupt.exception.CheckpointException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CheckpointImportTest {
+    @TempDir
+    Path tempDir;
+
+    private File writeSource(int rows) throws IOException {
+        Path file = tempDir.resolve("source.csv");
+        StringBuilder content = new StringBuilder("name,age,salary,birth\n");
+        for (int i = 0; i < rows; i++) content.append("e").append(i).append(',').append(i).append(",,\n");
+        Files.writeString(file, content);
+        return file.toFile();
+    }
+
+    // Imports in batches of 30 and fails while the third batch is handed over
+    private long importFailingOnThirdBatch(File file, FileCheckpointStore store, List<String> names) {
+        int[] batches = {0};
+        return new ImporterUtil().importFile(file, Employee.class, 30, batch -> {
+            if (++batches[0] == 3) throw new IllegalStateException("Consumer failed");
+            batch.forEach(employee -> names.add(employee.getName()));
+        }, store);
+    }
+
+    @Test
+    void resumesAfterTheLastCommittedBatch() throws IOException {
+        File file = writeSource(100);
+        FileCheckpointStore store = new FileCheckpointStore(tempDir.resolve("checkpoint.properties"));
+        List<String> names = new ArrayList<>();
+
+        assertThrows(RuntimeException.class, () -> importFailingOnThirdBatch(file, store, names));
+        Checkpoint checkpoint = store.load();
+        assertNotNull(checkpoint);
+        assertEquals(60, checkpoint.getRowCount());
+        assertEquals(60, checkpoint.getLastRowNum());
+        assertEquals(SourceIdentity.of(file), checkpoint.getSource());
+
+        long resumed = new ImporterUtil().importFile(file, Employee.class, 30, batch -> batch.forEach(employee -> names.add(employee.getName())), store);
+        assertEquals(40, resumed);
+        assertEquals(IntStream.range(0, 100).mapToObj(i -> "e" + i).toList(), names);
+        assertNull(store.load());
+    }
+
+    @Test
+    void checkpointOfAChangedFileIsDiscarded() throws IOException {
+        File file = writeSource(100);
+        FileCheckpointStore store = new FileCheckpointStore(tempDir.resolve("checkpoint.properties"));
+        assertThrows(RuntimeException.class, () -> importFailingOnThirdBatch(file, store, new ArrayList<>()));
+
+        // Same name and size, only the modification time tells the files apart
+        assertEquals(file.length(), store.load().getSource().getLength());
+        file.setLastModified(file.lastModified() + 10_000);
+
+        List<String> names = new ArrayList<>();
+        long imported = new ImporterUtil().importFile(file, Employee.class, 30, batch -> batch.forEach(employee -> names.add(employee.getName())), store);
+        assertEquals(100, imported);
+        assertEquals(100, names.size());
+        assertNull(store.load());
+    }
+
+    @Test
+    void checkpointWithAnotherContentHashIsDiscarded() throws IOException {
+        File file = writeSource(50);
+        FileCheckpointStore store = new FileCheckpointStore(tempDir.resolve("checkpoint.properties"));
+        SourceIdentity identity = SourceIdentity.of(file);
+        store.save(new Checkpoint(new SourceIdentity(identity.getName(), identity.getLength(), identity.getLastModified(), "00"), 10, 10));
+
+        assertEquals(50, new ImporterUtil().importFile(file, Employee.class, 30, batch -> {
+        }, store));
+        assertNull(store.load());
+    }
+
+    @Test
+    void storeKeepsEveryPartOfTheIdentity() throws IOException {
+        File file = writeSource(5);
+        FileCheckpointStore store = new FileCheckpointStore(tempDir.resolve("checkpoint.properties"));
+        Checkpoint checkpoint = new Checkpoint(SourceIdentity.of(file), 3, 3);
+        store.save(checkpoint);
+
+        Checkpoint loaded = store.load();
+        assertEquals(checkpoint.getSource(), loaded.getSource());
+        assertEquals(3, loaded.getLastRowNum());
+        assertEquals(3, loaded.getRowCount());
+
+        store.clear();
+        assertNull(store.load());
+    }
+
+    @Test
+    void checkpointFailuresAreNotReportedAsReadErrors() throws IOException {
+        File file = writeSource(5);
+        CheckpointStore store = new CheckpointStore() {
+            @Override
+            public Checkpoint load() {
+                return null;
+            }
+
+            @Override
+            public void save(Checkpoint checkpoint) throws IOException {
+                throw new IOException("Disk full");
+            }
+
+            @Override
+            public void clear() {
+            }
+        };
+
+        CheckpointException exception = assertThrows(CheckpointException.class, () -> new ImporterUtil().importFile(file, Employee.class, 2, batch -> {
+        }, store));
+        assertEquals("Error saving the checkpoint", exception.getMessage());
+        assertEquals("Disk full", exception.getCause().getMessage());
+    }
+
+    @Test
+    void checkpointWithoutTimeOrHashIsInvalid() throws IOException {
+        File file = writeSource(5);
+        Path path = tempDir.resolve("checkpoint.properties");
+        FileCheckpointStore store = new FileCheckpointStore(path);
+        String identity = "source=source.csv\nsourceLength=" + file.length() + "\nlastRowNum=3\nrowCount=3\n";
+
+        Files.writeString(path, identity);
+        assertThrows(IOException.class, store::load);
+        CheckpointException exception = assertThrows(CheckpointException.class, () -> new ImporterUtil().importFile(file, Employee.class, 2, batch -> {
+        }, store));
+        assertEquals("Error loading the checkpoint", exception.getMessage());
+
+        Files.writeString(path, identity + "sourceLastModified=" + file.lastModified() + "\n");
+        assertThrows(IOException.class, store::load);
+        Files.writeString(path, identity + "sourceHash=00\n");
+        assertThrows(IOException.class, store::load);
+    }
+}
@@ -0,0 +1,84 @@
+package org.trupt.utils;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.trupt.annotation.ExcelCellHeader;
+import org.trupt.config.ColumnWidthStrategy;
+import org.trupt.config.ExportOptions;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ColumnWidthTest {
+    public static class Label {
+        @ExcelCellHeader(headerName = "name")
+        private String name;
+        @ExcelCellHeader(headerName = "code", width = 5)
+        private String code;
+        @ExcelCellHeader(headerName = "salary", format = "#,##0.00")
+        private double salary;
+
+        Label(String name, String code, double salary) {
+            this.name = name;
+            this.code = code;
+            this.salary = salary;
+        }
+    }
+
+    private static final List<Label> LABELS = List.of(
+            new Label("a", "a very long code", 1.5),
+            new Label("abcdefghij", "b", 1234567));
+
+    @TempDir
+    Path tempDir;
+
+    // Widths of the name, code and salary columns, in characters
+    private int[] exportWidths(ExportOptions exportOptions) throws Exception {
+        File file = tempDir.resolve("labels.xlsx").toFile();
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            new ExporterUtil(exportOptions).exportFile(LABELS, Locale.ROOT, outputStream);
+        }
+        try (XSSFWorkbook workbook = new XSSFWorkbook(file)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            return new int[]{sheet.getColumnWidth(0) / 256, sheet.getColumnWidth(1) / 256, sheet.getColumnWidth(2) / 256};
+        }
+    }
+
+    @Test
+    void maxLengthMeasuresEveryRow() throws Exception {
+        // 1,234,567 is nine characters wide, the pinned code column is never measured
+        assertArrayEquals(new int[]{12, 5, 11}, exportWidths(ExportOptions.defaults()));
+    }
+
+    @Test
+    void sampleMeasuresTheFirstRowsOnly() throws Exception {
+        ExportOptions exportOptions = ExportOptions.builder().columnWidthStrategy(ColumnWidthStrategy.SAMPLE).widthSampleRows(1).build();
+        // Header widths win over the first row, "1.50" is shorter than "Salary"
+        assertArrayEquals(new int[]{6, 5, 8}, exportWidths(exportOptions));
+    }
+
+    @Test
+    void fixedKeepsTheHeaderWidths() throws Exception {
+        ExportOptions exportOptions = ExportOptions.builder().columnWidthStrategy(ColumnWidthStrategy.FIXED).build();
+        assertArrayEquals(new int[]{6, 5, 8}, exportWidths(exportOptions));
+    }
+
+    @Test
+    void numbersAreMeasuredWithoutFormatting() {
+        assertEquals(9, ColumnWidthTracker.numberLength(1234567, true));
+        assertEquals(7, ColumnWidthTracker.numberLength(1234567, false));
+        assertEquals(5, ColumnWidthTracker.numberLength(12.5, false));
+        assertEquals(5, ColumnWidthTracker.numberLength(-0.5, false));
+        assertEquals(4, ColumnWidthTracker.numberLength(-100L, false));
+    }
+}
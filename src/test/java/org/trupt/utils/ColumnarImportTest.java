@@ -0,0 +1,106 @@
+package org.trupt.utils;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.trupt.columnar.ColumnarTable;
+import org.trupt.columnar.DoubleColumn;
+import org.trupt.columnar.IntColumn;
+import org.trupt.columnar.LocalDateColumn;
+import org.trupt.columnar.StringColumn;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ColumnarImportTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void columnsMatchTheExportedBeans() throws IOException {
+        // Enough rows to grow every buffer a few times
+        List<Employee> employees = IntStream.range(0, 250).mapToObj(Employee::of).toList();
+        File file = tempDir.resolve("employees.xlsx").toFile();
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            new ExporterUtil().exportFile(employees, Locale.ROOT, outputStream);
+        }
+
+        ColumnarTable table = new ImporterUtil().importFileColumnar(file, Employee.class);
+        assertEquals(Employee.class, table.getType());
+        assertEquals(250, table.getRowCount());
+
+        IntColumn age = table.getIntColumn("age");
+        DoubleColumn salary = table.getDoubleColumn("salary");
+        StringColumn name = table.getStringColumn("name");
+        LocalDateColumn birth = table.getLocalDateColumn("birth");
+        assertEquals(250, age.getValues().length);
+        for (int row = 0; row < 250; row++) {
+            Employee employee = employees.get(row);
+            assertEquals(employee.getName(), name.getString(row));
+            assertEquals(employee.getAge(), age.getInt(row));
+            assertEquals(1000.5 + row, salary.getDouble(row));
+            assertEquals(LocalDate.of(1980, 1, 1).plusDays(row), birth.getLocalDate(row));
+        }
+    }
+
+    @Test
+    void absentCellsAreNullAndRepeatedStringsShareACode() throws IOException {
+        File file = tempDir.resolve("sparse.xlsx").toFile();
+        try (Workbook workbook = new XSSFWorkbook(); OutputStream outputStream = new FileOutputStream(file)) {
+            Sheet sheet = workbook.createSheet();
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("name");
+            header.createCell(1).setCellValue("age");
+            header.createCell(2).setCellValue("salary");
+            header.createCell(3).setCellValue("birth");
+            String[] names = {"a", "b", "a"};
+            for (int i = 0; i < names.length; i++) {
+                Row row = sheet.createRow(i + 1);
+                row.createCell(0).setCellValue(names[i]);
+                row.createCell(1).setCellValue(i);
+                if (i != 1) row.createCell(2).setCellValue(i + 0.5);
+            }
+            workbook.write(outputStream);
+        }
+
+        ColumnarTable table = new ImporterUtil().importFileColumnar(file, Employee.class);
+        StringColumn name = table.getStringColumn("name");
+        assertEquals(List.of("a", "b"), name.getDictionary());
+        assertArrayEquals(new int[]{0, 1, 0}, name.getCodes());
+
+        DoubleColumn salary = table.getDoubleColumn("salary");
+        assertFalse(salary.isNull(0));
+        assertTrue(salary.isNull(1));
+        assertNull(salary.get(1));
+        assertTrue(table.getLocalDateColumn("birth").isNull(2));
+    }
+
+    @Test
+    void columnsAreLookedUpByType() throws IOException {
+        File file = tempDir.resolve("employees.xlsx").toFile();
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            new ExporterUtil().exportFile(List.of(Employee.of(0)), Locale.ROOT, outputStream);
+        }
+
+        ColumnarTable table = new ImporterUtil().importFileColumnar(file, Employee.class);
+        assertThrows(RuntimeException.class, () -> table.getIntColumn("name"));
+        assertThrows(RuntimeException.class, () -> table.getColumn("other"));
+    }
+}
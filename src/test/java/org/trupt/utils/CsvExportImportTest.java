@@ -0,0 +1,87 @@
+package org.trupt.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.trupt.config.CsvOptions;
+import org.trupt.config.ExportOptions;
+import org.trupt.config.FileFormat;
+import org.trupt.handler.TypeHandlerStorage;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvExportImportTest {
+    private static final List<Employee> EMPLOYEES = List.of(
+            new Employee("plain", 30, 1200.5, LocalDate.of(1990, 5, 17)),
+            new Employee("Doe, Jane", 41, 2000.0, null),
+            new Employee("say \"hi\"", 25, null, LocalDate.of(2001, 1, 2)),
+            new Employee("two\nlines", 52, 3.25, null),
+            new Employee(" padded ", 19, 0.0, null));
+
+    @TempDir
+    Path tempDir;
+
+    private File export(String fileName, ExportOptions exportOptions) throws IOException {
+        File file = tempDir.resolve(fileName).toFile();
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            new ExporterUtil(exportOptions).exportFile(EMPLOYEES, Locale.ROOT, outputStream);
+        }
+        return file;
+    }
+
+    @Test
+    void minimalQuotingQuotesOnlyFieldsThatNeedIt() throws IOException {
+        File file = export("employees.csv", ExportOptions.builder().fileFormat(FileFormat.CSV).build());
+        String content = Files.readString(file.toPath(), StandardCharsets.UTF_8);
+
+        assertTrue(content.startsWith("Name,Age,Salary,Birth\r\nplain,30,"), content);
+        assertTrue(content.contains("\r\n\"Doe, Jane\",41,"), content);
+        assertTrue(content.contains("\r\n\"say \"\"hi\"\"\",25,"), content);
+        assertTrue(content.contains("\r\n\"two\nlines\",52,"), content);
+        assertEquals(EMPLOYEES, new ImporterUtil().importFileStreaming(file, Employee.class));
+    }
+
+    @Test
+    void quoteAllWithCustomQuoteAndDelimiterReadsBack() throws IOException {
+        CsvOptions csvOptions = CsvOptions.builder().delimiter(';').quoteChar('\'').quoteMode(CsvOptions.QuoteMode.ALL).lineSeparator("\n").build();
+        File file = export("employees.csv", ExportOptions.builder().fileFormat(FileFormat.CSV).csvOptions(csvOptions).build());
+        String content = Files.readString(file.toPath(), StandardCharsets.UTF_8);
+
+        assertTrue(content.startsWith("'Name';'Age';'Salary';'Birth'\n'plain';'30';"), content);
+        ImporterUtil importerUtil = new ImporterUtil(new TypeHandlerStorage(), csvOptions);
+        assertEquals(EMPLOYEES, importerUtil.importFileStreaming(file, Employee.class));
+        assertEquals(EMPLOYEES, importerUtil.importFile(file, Employee.class));
+    }
+
+    @Test
+    void tsvUsesTabsAndReadsBack() throws IOException {
+        File file = export("employees.tsv", ExportOptions.builder().fileFormat(FileFormat.TSV).build());
+        String content = Files.readString(file.toPath(), StandardCharsets.UTF_8);
+
+        assertTrue(content.startsWith("Name\tAge\tSalary\tBirth\r\n"), content);
+        assertEquals(EMPLOYEES, new ImporterUtil().importFileStreaming(file, Employee.class));
+    }
+
+    @Test
+    void importAcceptsEveryLineSeparatorAndAByteOrderMark() throws IOException {
+        Path file = tempDir.resolve("mixed.csv");
+        Files.writeString(file, "\uFEFFname,age,salary,birth\na,1,2.5,2020-01-31\r\nb,2,,\r\"c\r\nd\",3,4,\n", StandardCharsets.UTF_8);
+
+        List<Employee> imported = new ImporterUtil().importFileStreaming(file.toFile(), Employee.class);
+        assertEquals(List.of(
+                new Employee("a", 1, 2.5, LocalDate.of(2020, 1, 31)),
+                new Employee("b", 2, null, null),
+                new Employee("c\r\nd", 3, 4.0, null)), imported);
+    }
+}
@@ -0,0 +1,56 @@
+package org.trupt.utils;
+
+import org.trupt.annotation.ExcelCellHeader;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+// No SUM or AVERAGE columns: the importers read up to the first empty row, so a footer would be read as data
+public class Employee {
+    @ExcelCellHeader(headerName = "name", isRequired = true)
+    private String name;
+    @ExcelCellHeader(headerName = "age")
+    private int age;
+    @ExcelCellHeader(headerName = "salary", format = "#,##0.00")
+    private Double salary;
+    @ExcelCellHeader(headerName = "birth", format = "yyyy-mm-dd")
+    private LocalDate birth;
+
+    public Employee() {
+    }
+
+    public Employee(String name, int age, Double salary, LocalDate birth) {
+        this.name = name;
+        this.age = age;
+        this.salary = salary;
+        this.birth = birth;
+    }
+
+    public static Employee of(int index) {
+        return new Employee("Employee " + index, 20 + index % 40, 1000.5 + index, LocalDate.of(1980, 1, 1).plusDays(index));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Employee employee && name.equals(employee.name) && age == employee.age
+                && Objects.equals(salary, employee.salary) && Objects.equals(birth, employee.birth);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, age, salary, birth);
+    }
+
+    @Override
+    public String toString() {
+        return name + "|" + age + "|" + salary + "|" + birth;
+    }
+}
@@ -0,0 +1,237 @@
+package org.trupt.utils;
+
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellType;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.trupt.annotation.ExcelCellHeader;
+import org.trupt.config.ParallelImportOptions;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ExportImportRoundTripTest {
+    @TempDir
+    Path tempDir;
+
+    public static class Payment {
+        @ExcelCellHeader(headerName = "name")
+        private String name;
+        @ExcelCellHeader(headerName = "age", calculateSum = true, calculateAverage = true)
+        private int age;
+        @ExcelCellHeader(headerName = "salary", calculateSum = true)
+        private double salary;
+
+        Payment(String name, int age, double salary) {
+            this.name = name;
+            this.age = age;
+            this.salary = salary;
+        }
+    }
+
+    private static List<Employee> employees(int count) {
+        return IntStream.range(0, count).mapToObj(Employee::of).toList();
+    }
+
+    @Test
+    void streamingExportIsReadBackByEveryImport() throws IOException {
+        // More rows than the row window, so part of the sheet is flushed before it is written
+        List<Employee> employees = employees(250);
+        File file = tempDir.resolve("employees.xlsx").toFile();
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            new ExporterUtil().exportFile(employees, Locale.ROOT, outputStream);
+        }
+
+        ImporterUtil importerUtil = new ImporterUtil();
+        assertEquals(employees, importerUtil.importFile(file, Employee.class));
+        assertEquals(employees, importerUtil.importFileStreaming(file, Employee.class));
+        try (var stream = importerUtil.streamFile(file, Employee.class)) {
+            assertEquals(employees, stream.toList());
+        }
+        assertEquals(employees, importerUtil.importFileParallel(file, Employee.class, ParallelImportOptions.builder().chunkSize(30).build()));
+        assertEquals(250, importerUtil.importFileColumnar(file, Employee.class).getRowCount());
+    }
+
+    @Test
+    void channelExportIsReadBack() throws IOException {
+        List<Employee> employees = employees(20);
+        Path file = tempDir.resolve("channel.xlsx");
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            new ExporterUtil().exportFile(employees, Locale.ROOT, channel);
+        }
+
+        assertEquals(employees, new ImporterUtil().importFile(file.toFile(), Employee.class));
+    }
+
+    @Test
+    void inMemoryExportIsReadBack() throws IOException {
+        List<Employee> employees = employees(20);
+        ByteArrayInputStream exported = new ExporterUtil().exportFile(employees, Locale.ROOT);
+        Path file = tempDir.resolve("employees.xlsx");
+        Files.write(file, exported.readAllBytes());
+
+        // Written through the shared strings table, unlike the streaming export
+        assertEquals(employees, new ImporterUtil().importFile(file.toFile(), Employee.class));
+        assertEquals(employees, new ImporterUtil().importFileStreaming(file.toFile(), Employee.class));
+    }
+
+    @Test
+    void batchedImportHandsOverEveryRowOnce() throws IOException {
+        List<Employee> employees = employees(95);
+        File file = tempDir.resolve("employees.xlsx").toFile();
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            new ExporterUtil().exportFile(employees, Locale.ROOT, outputStream);
+        }
+
+        List<Integer> batchSizes = new ArrayList<>();
+        List<Employee> imported = new ArrayList<>();
+        long count = new ImporterUtil().importFile(file, Employee.class, 40, batch -> {
+            batchSizes.add(batch.size());
+            imported.addAll(batch);
+        });
+        assertEquals(95, count);
+        assertEquals(List.of(40, 40, 15), batchSizes);
+        assertEquals(employees, imported);
+    }
+
+    @Test
+    void partitionedExportSplitsRowsOverSheets() throws Exception {
+        List<Employee> employees = employees(250);
+        File file = tempDir.resolve("partitioned.xlsx").toFile();
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            new ExporterUtil().exportFilePartitioned(employees, Locale.ROOT, outputStream, 100);
+        }
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(file)) {
+            assertEquals(3, workbook.getNumberOfSheets());
+            int[] dataRows = {100, 100, 50};
+            for (int sheetIndex = 0; sheetIndex < 3; sheetIndex++) {
+                Sheet sheet = workbook.getSheetAt(sheetIndex);
+                assertEquals("Sheet" + (sheetIndex + 1), sheet.getSheetName());
+                // Header, data rows and the SUM and AVERAGE rows, empty for this class
+                assertEquals(dataRows[sheetIndex] + 2, sheet.getLastRowNum());
+                assertEquals(employees.get(sheetIndex * 100).getName(), sheet.getRow(1).getCell(0).getStringCellValue());
+            }
+        }
+    }
+
+    @Test
+    void groupedExportWritesASheetPerKey() throws Exception {
+        List<Employee> employees = employees(60);
+        File file = tempDir.resolve("grouped.xlsx").toFile();
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            new ExporterUtil().exportFilePartitioned(employees, Locale.ROOT, outputStream, employee -> employee.getAge() < 30 ? "Young" : "young");
+        }
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(file)) {
+            // Sheet names are unique ignoring case
+            assertEquals(2, workbook.getNumberOfSheets());
+            assertEquals("Young", workbook.getSheetName(0));
+            assertEquals("young (2)", workbook.getSheetName(1));
+            assertEquals(20 + 2, workbook.getSheetAt(0).getLastRowNum());
+            assertEquals(40 + 2, workbook.getSheetAt(1).getLastRowNum());
+        }
+    }
+
+    @Test
+    void sessionExportMatchesSingleExport() throws IOException {
+        List<Employee> employees = employees(230);
+        File file = tempDir.resolve("session.xlsx").toFile();
+        try (OutputStream outputStream = new FileOutputStream(file);
+             ExportSession<Employee> session = new ExporterUtil().openSession(Employee.class, Locale.ROOT, outputStream)) {
+            for (int from = 0; from < employees.size(); from += 70)
+                session.append(employees.subList(from, Math.min(from + 70, employees.size())));
+            assertEquals(230, session.getRowCount());
+        }
+
+        assertEquals(employees, new ImporterUtil().importFileStreaming(file, Employee.class));
+    }
+
+    @Test
+    void closedSessionRejectsRows() throws IOException {
+        File file = tempDir.resolve("closed.xlsx").toFile();
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            ExportSession<Employee> session = new ExporterUtil().openSession(Employee.class, Locale.ROOT, outputStream);
+            session.append(employees(3));
+            session.close();
+            assertThrows(IllegalStateException.class, () -> session.append(employees(1)));
+        }
+    }
+
+    @Test
+    void footerFormulasAgreeWithTheirCachedValues() throws Exception {
+        // Non-finite values are written blank, so SUM and AVERAGE skip them like the aggregate does
+        List<Payment> payments = List.of(
+                new Payment("a", 1, 2.0),
+                new Payment("b", 3, Double.NaN),
+                new Payment("c", 5, Double.POSITIVE_INFINITY),
+                new Payment("d", 7, 4.0));
+        File file = tempDir.resolve("footer.xlsx").toFile();
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            new ExporterUtil().exportFile(payments, Locale.ROOT, outputStream);
+        }
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(file)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals(CellType.BLANK, sheet.getRow(2).getCell(2).getCellType());
+            assertEquals("Total", sheet.getRow(5).getCell(0).getStringCellValue());
+            assertEquals("Average", sheet.getRow(6).getCell(0).getStringCellValue());
+
+            Cell ageSum = sheet.getRow(5).getCell(1);
+            Cell salarySum = sheet.getRow(5).getCell(2);
+            Cell ageAverage = sheet.getRow(6).getCell(1);
+            assertEquals(16, ageSum.getNumericCellValue());
+            assertEquals(6, salarySum.getNumericCellValue());
+            assertEquals(4, ageAverage.getNumericCellValue());
+            assertEquals("AVERAGE(B2:B5)", ageAverage.getCellFormula());
+
+            workbook.getCreationHelper().createFormulaEvaluator().evaluateAll();
+            assertEquals(16, ageSum.getNumericCellValue());
+            assertEquals(6, salarySum.getNumericCellValue());
+            assertEquals(4, ageAverage.getNumericCellValue());
+        }
+    }
+
+    @Test
+    void formattedColumnsShareOneStylePerFormat() throws Exception {
+        File file = tempDir.resolve("formats.xlsx").toFile();
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            new ExporterUtil().exportFile(employees(150), Locale.ROOT, outputStream);
+        }
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(file)) {
+            Sheet sheet = workbook.getSheetAt(0);
+            Cell salary = sheet.getRow(1).getCell(2);
+            Cell birth = sheet.getRow(1).getCell(3);
+            assertEquals("#,##0.00", salary.getCellStyle().getDataFormatString());
+            assertEquals(CellType.NUMERIC, birth.getCellType());
+            assertEquals("yyyy-mm-dd", birth.getCellStyle().getDataFormatString());
+            assertEquals(birth.getCellStyle().getIndex(), sheet.getRow(150).getCell(3).getCellStyle().getIndex());
+            assertEquals(sheet.getRow(0).getCell(0).getCellStyle().getIndex(), sheet.getRow(0).getCell(3).getCellStyle().getIndex());
+            // The default style, the header highlight and one style per format
+            assertEquals(4, workbook.getNumCellStyles());
+        }
+    }
+
+    @Test
+    void emptyListIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ExporterUtil().exportFile(List.of(), Locale.ROOT, OutputStream.nullOutputStream()));
+    }
+}
@@ -0,0 +1,124 @@
+package org.trupt.utils;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.trupt.config.LenientImportOptions;
+import org.trupt.report.ImportError;
+import org.trupt.report.ImportReport;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LenientImportTest {
+    @TempDir
+    Path tempDir;
+
+    // Rows 2 and 5 are valid, row 3 has a text age and row 4 has no name
+    private File writeSource() throws IOException {
+        File file = tempDir.resolve("source.xlsx").toFile();
+        try (Workbook workbook = new XSSFWorkbook(); OutputStream outputStream = new FileOutputStream(file)) {
+            Sheet sheet = workbook.createSheet();
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("name");
+            header.createCell(1).setCellValue("age");
+            header.createCell(2).setCellValue("salary");
+            header.createCell(3).setCellValue("birth");
+            writeRow(sheet.createRow(1), "a", 30, 10.5);
+            Row badAge = sheet.createRow(2);
+            badAge.createCell(0).setCellValue("b");
+            badAge.createCell(1).setCellValue("abc");
+            badAge.createCell(2).setCellValue(20.0);
+            Row noName = sheet.createRow(3);
+            noName.createCell(1).setCellValue(40);
+            writeRow(sheet.createRow(4), "d", 50, 30.0);
+            workbook.write(outputStream);
+        }
+        return file;
+    }
+
+    private static void writeRow(Row row, String name, int age, double salary) {
+        row.createCell(0).setCellValue(name);
+        row.createCell(1).setCellValue(age);
+        row.createCell(2).setCellValue(salary);
+    }
+
+    @Test
+    void collectsAnErrorPerBadCellAndKeepsTheValidRows() throws IOException {
+        ImportReport<Employee> report = new ImporterUtil().importFileLenient(writeSource(), Employee.class, LenientImportOptions.defaults());
+
+        assertEquals(List.of(new Employee("a", 30, 10.5, null), new Employee("d", 50, 30.0, null)), report.getRows());
+        assertEquals(2, report.getRejectedRowCount());
+        assertEquals(2, report.getErrorCount());
+        assertFalse(report.isTruncated());
+
+        ImportError badAge = report.getErrors().get(0);
+        assertEquals(2, badAge.getRowNum());
+        assertEquals(1, badAge.getColumnIndex());
+        assertEquals("abc", badAge.getRawValue());
+        assertEquals(3, report.getErrors().get(1).getRowNum());
+    }
+
+    @Test
+    void errorListIsCappedButCountsEveryError() throws IOException {
+        ImportReport<Employee> report = new ImporterUtil().importFileLenient(writeSource(), Employee.class,
+                LenientImportOptions.builder().maxErrors(1).build());
+
+        assertEquals(1, report.getErrors().size());
+        assertEquals(2, report.getErrorCount());
+        assertTrue(report.isTruncated());
+    }
+
+    @Test
+    void quarantineHoldsTheRejectedRowsWithTheirErrors() throws IOException {
+        ByteArrayOutputStream quarantine = new ByteArrayOutputStream();
+        new ImporterUtil().importFileLenient(writeSource(), Employee.class,
+                LenientImportOptions.builder().quarantineOutput(quarantine).build());
+
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(quarantine.toByteArray()))) {
+            Sheet sheet = workbook.getSheetAt(0);
+            assertEquals(2, sheet.getLastRowNum());
+
+            Row header = sheet.getRow(0);
+            assertEquals("name", header.getCell(0).getStringCellValue());
+            assertEquals(QuarantineWriter.SOURCE_ROW_HEADER, header.getCell(4).getStringCellValue());
+            assertEquals(QuarantineWriter.ERRORS_HEADER, header.getCell(5).getStringCellValue());
+
+            Row badAge = sheet.getRow(1);
+            assertEquals("b", badAge.getCell(0).getStringCellValue());
+            assertEquals("abc", badAge.getCell(1).getStringCellValue());
+            assertEquals(20.0, badAge.getCell(2).getNumericCellValue());
+            assertEquals(3, badAge.getCell(4).getNumericCellValue());
+            assertTrue(badAge.getCell(5).getStringCellValue().startsWith("age: "), badAge.getCell(5).getStringCellValue());
+
+            Row noName = sheet.getRow(2);
+            assertEquals(4, noName.getCell(4).getNumericCellValue());
+            assertTrue(noName.getCell(5).getStringCellValue().startsWith("name: "), noName.getCell(5).getStringCellValue());
+        }
+    }
+
+    @Test
+    void validFileHasNoErrors() throws IOException {
+        File file = tempDir.resolve("valid.csv").toFile();
+        Files.writeString(file.toPath(), "name,age,salary,birth\na,1,2,2020-01-01\n");
+
+        ImportReport<Employee> report = new ImporterUtil().importFileLenient(file, Employee.class, LenientImportOptions.defaults());
+        assertFalse(report.hasErrors());
+        assertEquals(List.of(new Employee("a", 1, 2.0, LocalDate.of(2020, 1, 1))), report.getRows());
+    }
+}
@@ -0,0 +1,160 @@
+package org.trupt.utils;
+
+import org.apache.poi.xssf.usermodel.XSSFCell;
+import org.apache.poi.xssf.usermodel.XSSFRow;
+import org.apache.poi.xssf.usermodel.XSSFSheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.STCellType;
+import org.trupt.annotation.ExcelCellHeader;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class LowCardinalityTest {
+    public static class Order {
+        @ExcelCellHeader(headerName = "status", lowCardinality = true)
+        private String status;
+        @ExcelCellHeader(headerName = "code", lowCardinality = true, lowCardinalityLimit = 2)
+        private String code;
+        @ExcelCellHeader(headerName = "name")
+        private String name;
+
+        public Order() {
+        }
+
+        Order(int index) {
+            this.status = index % 2 == 0 ? "NEW" : "PAID";
+            this.code = "C" + index;
+            this.name = "N" + index % 2;
+        }
+    }
+
+    public static class Invoice {
+        @ExcelCellHeader(headerName = "status", lowCardinality = true, lowCardinalityLimit = 3)
+        private String status;
+        @ExcelCellHeader(headerName = "age", calculateSum = true, calculateAverage = true)
+        private int amount;
+
+        Invoice(int index) {
+            this.status = index % 2 == 0 ? "NEW" : "PAID";
+            this.amount = index;
+        }
+    }
+
+    public static class Ticket {
+        @ExcelCellHeader(headerName = "code", lowCardinality = true)
+        private String code;
+
+        Ticket(int index) {
+            this.code = "T" + index;
+        }
+    }
+
+    public static class InvalidLimit {
+        @ExcelCellHeader(headerName = "status", lowCardinality = true, lowCardinalityLimit = 0)
+        private String status = "NEW";
+    }
+
+    @TempDir
+    Path tempDir;
+
+    private File export(List<?> rows) throws IOException {
+        File file = tempDir.resolve("orders.xlsx").toFile();
+        try (OutputStream outputStream = new FileOutputStream(file)) {
+            new ExporterUtil().exportFile(rows, Locale.ROOT, outputStream);
+        }
+        return file;
+    }
+
+    private static STCellType.Enum type(XSSFCell cell) {
+        return cell.getCTCell().getT();
+    }
+
+    @Test
+    void onlyLowCardinalityValuesUpToTheLimitAreShared() throws Exception {
+        // More rows than the row window, so shared and inline cells are flushed alike
+        List<Order> orders = IntStream.range(0, 150).mapToObj(Order::new).toList();
+        File file = export(orders);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(file)) {
+            // NEW, PAID and the first two codes; the headers, the other codes and every name are written inline
+            assertEquals(4, workbook.getSharedStringSource().getUniqueCount());
+            XSSFSheet sheet = workbook.getSheetAt(0);
+            assertEquals(STCellType.INLINE_STR, type(sheet.getRow(0).getCell(0)));
+            for (int i = 0; i < orders.size(); i++) {
+                XSSFRow row = sheet.getRow(i + 1);
+                assertEquals(orders.get(i).status, row.getCell(0).getStringCellValue());
+                assertEquals(orders.get(i).code, row.getCell(1).getStringCellValue());
+                assertEquals(orders.get(i).name, row.getCell(2).getStringCellValue());
+                assertEquals(STCellType.S, type(row.getCell(0)));
+                assertEquals(i < 2 ? STCellType.S : STCellType.INLINE_STR, type(row.getCell(1)));
+                assertEquals(STCellType.INLINE_STR, type(row.getCell(2)));
+            }
+        }
+    }
+
+    @Test
+    void footerLabelsAreNotShared() throws Exception {
+        File file = export(IntStream.range(0, 4).mapToObj(Invoice::new).toList());
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(file)) {
+            // Only NEW and PAID, the labels would otherwise take the third place of the column
+            assertEquals(2, workbook.getSharedStringSource().getUniqueCount());
+            XSSFSheet sheet = workbook.getSheetAt(0);
+            assertEquals(STCellType.S, type(sheet.getRow(4).getCell(0)));
+            assertEquals("Total", sheet.getRow(5).getCell(0).getStringCellValue());
+            assertEquals(STCellType.INLINE_STR, type(sheet.getRow(5).getCell(0)));
+            assertEquals("Average", sheet.getRow(6).getCell(0).getStringCellValue());
+            assertEquals(STCellType.INLINE_STR, type(sheet.getRow(6).getCell(0)));
+        }
+    }
+
+    @Test
+    void mostlyDistinctColumnFallsBackToInline() throws Exception {
+        List<Ticket> tickets = IntStream.range(0, 300).mapToObj(Ticket::new).toList();
+        File file = export(tickets);
+
+        try (XSSFWorkbook workbook = new XSSFWorkbook(file)) {
+            // Far below the limit, but every value so far was distinct once the sample is complete
+            int shared = SharedStringsWorkbook.SAMPLE_VALUES - 1;
+            assertEquals(shared, workbook.getSharedStringSource().getUniqueCount());
+            XSSFSheet sheet = workbook.getSheetAt(0);
+            for (int i = 0; i < tickets.size(); i++) {
+                XSSFCell cell = sheet.getRow(i + 1).getCell(0);
+                assertEquals(tickets.get(i).code, cell.getStringCellValue());
+                assertEquals(i < shared ? STCellType.S : STCellType.INLINE_STR, type(cell));
+            }
+        }
+    }
+
+    @Test
+    void importedValuesShareOneInstanceUpToTheLimit() throws IOException {
+        File file = export(IntStream.range(0, 6).mapToObj(Order::new).toList());
+        List<Order> imported = new ImporterUtil().importFileStreaming(file, Order.class);
+
+        assertEquals(6, imported.size());
+        assertSame(imported.get(0).status, imported.get(2).status);
+        assertSame(imported.get(1).status, imported.get(5).status);
+        // Not marked, every cell gets its own string
+        assertNotSame(imported.get(0).name, imported.get(2).name);
+        assertEquals("C5", imported.get(5).code);
+    }
+
+    @Test
+    void limitMustBePositive() {
+        assertThrows(RuntimeException.class, () -> export(List.of(new InvalidLimit())));
+    }
+}
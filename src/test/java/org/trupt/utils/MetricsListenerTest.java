@@ -0,0 +1,130 @@
+package org.trupt.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.trupt.config.CsvOptions;
+import org.trupt.config.ExportOptions;
+import org.trupt.config.FileFormat;
+import org.trupt.config.LenientImportOptions;
+import org.trupt.handler.TypeHandlerStorage;
+import org.trupt.metrics.MetricsListener;
+import org.trupt.metrics.Operation;
+import org.trupt.metrics.OperationSummary;
+import org.trupt.metrics.Phase;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MetricsListenerTest {
+    private static class RecordingListener implements MetricsListener {
+        private final List<OperationSummary> summaries = Collections.synchronizedList(new ArrayList<>());
+        private final Set<Phase> phases = Collections.synchronizedSet(EnumSet.noneOf(Phase.class));
+        private final List<String> failedColumns = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void phaseCompleted(Operation operation, Class<?> type, Phase phase, long durationNanos) {
+            phases.add(phase);
+        }
+
+        @Override
+        public void conversionFailed(Operation operation, Class<?> type, String column, int rowNum, Throwable cause) {
+            failedColumns.add(column);
+        }
+
+        @Override
+        public void operationCompleted(OperationSummary summary) {
+            summaries.add(summary);
+        }
+    }
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void streamingExportReportsItsRowWindow() throws IOException {
+        RecordingListener listener = new RecordingListener();
+        List<Employee> employees = IntStream.range(0, 250).mapToObj(Employee::of).toList();
+        try (OutputStream outputStream = new FileOutputStream(tempDir.resolve("employees.xlsx").toFile())) {
+            new ExporterUtil(ExportOptions.builder().metricsListener(listener).build()).exportFile(employees, Locale.ROOT, outputStream);
+        }
+
+        OperationSummary summary = listener.summaries.get(0);
+        assertEquals(Operation.EXPORT_STREAMING, summary.getOperation());
+        assertEquals(FileFormat.XLSX, summary.getFileFormat());
+        assertEquals(Employee.class, summary.getType());
+        assertTrue(summary.isSucceeded());
+        assertEquals(250, summary.getRowCount());
+        assertEquals(ExportOptions.DEFAULT_ROW_ACCESS_WINDOW_SIZE, summary.getPeakBufferedRows());
+        assertTrue(listener.phases.containsAll(EnumSet.of(Phase.HEADER_RESOLUTION, Phase.ROW_MAPPING, Phase.SERIALIZATION)));
+    }
+
+    @Test
+    void lenientImportReportsTheRowsItHoldsAndEveryConversionFailure() throws IOException {
+        File file = tempDir.resolve("employees.csv").toFile();
+        Files.writeString(file.toPath(), "name,age,salary,birth\na,1,,\nb,x,,\nc,3,,\nd,4,,\n");
+        RecordingListener listener = new RecordingListener();
+
+        new ImporterUtil(new TypeHandlerStorage(), CsvOptions.defaults(), listener)
+                .importFileLenient(file, Employee.class, LenientImportOptions.defaults());
+
+        OperationSummary summary = listener.summaries.get(0);
+        assertEquals(Operation.IMPORT_LENIENT, summary.getOperation());
+        assertEquals(3, summary.getRowCount());
+        assertEquals(3, summary.getPeakBufferedRows());
+        assertEquals(1, summary.getConversionFailures());
+        assertEquals(List.of("age"), listener.failedColumns);
+    }
+
+    @Test
+    void columnarImportReportsTheWholeTableAsBuffered() throws IOException {
+        File file = tempDir.resolve("employees.csv").toFile();
+        Files.writeString(file.toPath(), "name,age,salary,birth\na,1,,\nb,2,,\n");
+        RecordingListener listener = new RecordingListener();
+
+        new ImporterUtil(new TypeHandlerStorage(), CsvOptions.defaults(), listener).importFileColumnar(file, Employee.class);
+        OperationSummary summary = listener.summaries.get(0);
+        assertEquals(Operation.IMPORT_COLUMNAR, summary.getOperation());
+        assertEquals(2, summary.getPeakBufferedRows());
+    }
+
+    @Test
+    void failedOperationIsReportedAsFailed() throws IOException {
+        File file = tempDir.resolve("employees.csv").toFile();
+        Files.writeString(file.toPath(), "name,other\na,1\n");
+        RecordingListener listener = new RecordingListener();
+
+        ImporterUtil importerUtil = new ImporterUtil(new TypeHandlerStorage(), CsvOptions.defaults(), listener);
+        assertThrows(RuntimeException.class, () -> importerUtil.importFileStreaming(file, Employee.class));
+        assertEquals(1, listener.summaries.size());
+        assertFalse(listener.summaries.get(0).isSucceeded());
+    }
+
+    @Test
+    void conversionFailureIsReportedWithItsColumn() throws IOException {
+        File file = tempDir.resolve("employees.csv").toFile();
+        Files.writeString(file.toPath(), "name,age,salary,birth\na,1,,\nb,x,,\n");
+        RecordingListener listener = new RecordingListener();
+
+        ImporterUtil importerUtil = new ImporterUtil(new TypeHandlerStorage(), CsvOptions.defaults(), listener);
+        assertThrows(RuntimeException.class, () -> importerUtil.importFileStreaming(file, Employee.class));
+        assertEquals(List.of("age"), listener.failedColumns);
+        assertEquals(1, listener.summaries.get(0).getConversionFailures());
+        assertEquals(Operation.IMPORT_STREAMING, listener.summaries.get(0).getOperation());
+    }
+}
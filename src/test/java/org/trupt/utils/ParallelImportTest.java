@@ -0,0 +1,116 @@
+package org.trupt.utils;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.trupt.config.ParallelImportOptions;
+import org.trupt.exception.ChunkImportException;
+import org.trupt.exception.ParallelImportException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ParallelImportTest {
+    @TempDir
+    Path tempDir;
+
+    // Writes rows e0..e(count-1), with a text age in the rows listed as bad
+    private File writeSource(int count, Set<Integer> badRows) throws IOException {
+        File file = tempDir.resolve("source.xlsx").toFile();
+        try (Workbook workbook = new XSSFWorkbook(); OutputStream outputStream = new FileOutputStream(file)) {
+            Sheet sheet = workbook.createSheet();
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("name");
+            header.createCell(1).setCellValue("age");
+            header.createCell(2).setCellValue("salary");
+            header.createCell(3).setCellValue("birth");
+            for (int i = 0; i < count; i++) {
+                Row row = sheet.createRow(i + 1);
+                row.createCell(0).setCellValue("e" + i);
+                if (badRows.contains(i)) row.createCell(1).setCellValue("x");
+                else row.createCell(1).setCellValue(i);
+            }
+            workbook.write(outputStream);
+        }
+        return file;
+    }
+
+    private static List<String> names(List<Employee> employees) {
+        return employees.stream().map(Employee::getName).toList();
+    }
+
+    @Test
+    void chunksAreReassembledInSheetOrder() throws IOException {
+        File file = writeSource(100, Set.of());
+        List<Employee> imported = new ImporterUtil().importFileParallel(file, Employee.class,
+                ParallelImportOptions.builder().chunkSize(7).maxChunksInFlight(2).build());
+
+        assertEquals(IntStream.range(0, 100).mapToObj(i -> "e" + i).toList(), names(imported));
+    }
+
+    @Test
+    void completionOrderKeepsEveryRow() throws IOException {
+        File file = writeSource(100, Set.of());
+        List<Employee> imported = new ImporterUtil().importFileParallel(file, Employee.class,
+                ParallelImportOptions.builder().chunkSize(7).ordered(false).build());
+
+        assertEquals(IntStream.range(0, 100).mapToObj(i -> "e" + i).collect(Collectors.toSet()), Set.copyOf(names(imported)));
+        assertEquals(100, imported.size());
+    }
+
+    @Test
+    void everyFailedChunkIsReported() throws IOException {
+        File file = writeSource(100, Set.of(5, 75, 80));
+        ParallelImportException e = assertThrows(ParallelImportException.class, () -> new ImporterUtil()
+                .importFileParallel(file, Employee.class, ParallelImportOptions.builder().chunkSize(30).build()));
+
+        List<ChunkImportException> failures = e.getChunkFailures().stream()
+                .sorted(Comparator.comparingInt(ChunkImportException::getChunkIndex)).toList();
+        assertEquals(2, failures.size());
+        // Sheet row indexes: data row i is sheet row i + 1
+        assertArrayEquals(new int[]{0, 1, 30, 6}, chunk(failures.get(0)));
+        assertArrayEquals(new int[]{2, 61, 90, 76}, chunk(failures.get(1)));
+        assertEquals(1, e.getSuppressed().length);
+    }
+
+    @Test
+    void failureSurvivesSerialization() throws Exception {
+        File file = writeSource(40, Set.of(5, 35));
+        ParallelImportException e = assertThrows(ParallelImportException.class, () -> new ImporterUtil()
+                .importFileParallel(file, Employee.class, ParallelImportOptions.builder().chunkSize(30).build()));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream outputStream = new ObjectOutputStream(bytes)) {
+            outputStream.writeObject(e);
+        }
+        try (ObjectInputStream inputStream = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            ParallelImportException copy = (ParallelImportException) inputStream.readObject();
+            assertEquals(e.getMessage(), copy.getMessage());
+            assertEquals(2, copy.getChunkFailures().size());
+            assertEquals(1, copy.getSuppressed().length);
+        }
+    }
+
+    private static int[] chunk(ChunkImportException failure) {
+        return new int[]{failure.getChunkIndex(), failure.getFirstRowNum(), failure.getLastRowNum(), failure.getFailedRowNum()};
+    }
+}